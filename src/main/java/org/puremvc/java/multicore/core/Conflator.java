@@ -0,0 +1,118 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Notificaciones pendientes en modo de conflación (gana el último valor), usado por View.
+ *
+ * Mientras una notificación con un nombre y una clave de conflación está
+ * pendiente de despacho, las siguientes con el mismo nombre y clave la
+ * reemplazan; al despachar solo se entrega la más reciente.
+ */
+final class Conflator {
+
+    private final ConcurrentMap<Key, INotification> pending = new ConcurrentHashMap<>();
+
+    // Cantidad de notificaciones reemplazadas antes de despacharse, por nombre
+    private final ConcurrentMap<String, LongAdder> conflated = new ConcurrentHashMap<>();
+
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * Encola una notificación, reemplazando la pendiente con la misma clave.
+     *
+     * Solo la primera de una serie programa un despacho en el Executor. Si el
+     * Executor la rechaza, la serie deja de estar pendiente, de modo que la
+     * siguiente vuelve a programar un despacho.
+     *
+     * Con un límite de cola, el despacho se encola a través de él; si la
+     * política lo descarta, la serie deja de estar pendiente y su último
+     * valor se pierde.
+     *
+     * @param notification la notificación a despachar
+     * @param conflationKey la clave que, junto con el nombre, identifica la serie
+     * @param executor el Executor donde se despacha
+     * @param limit el límite de la cola del Executor, o null
+     * @param dispatcher la función de despacho
+     * @throws java.util.concurrent.RejectedExecutionException si el Executor o el límite rechazan el despacho
+     */
+    void submit(INotification notification, Object conflationKey, Executor executor, QueueLimit limit, Consumer<INotification> dispatcher) {
+        Key key = new Key(notification.getName(), conflationKey);
+        if(pending.put(key, notification) != null) {
+            conflated.computeIfAbsent(key.notificationName, name -> new LongAdder()).increment();
+            total.increment();
+            return;
+        }
+        try {
+            if(limit == null) {
+                executor.execute(() -> dispatch(key, dispatcher));
+            } else {
+                limit.offer(key, notification.getName(), executor, scheduled -> dispatch(scheduled, dispatcher), pending::remove);
+            }
+        } catch(RuntimeException | Error e) {
+            pending.remove(key, notification);
+            throw e;
+        }
+    }
+
+    private void dispatch(Key key, Consumer<INotification> dispatcher) {
+        INotification latest = pending.remove(key);
+        if(latest != null) dispatcher.accept(latest);
+    }
+
+    /**
+     * Cantidad de notificaciones reemplazadas antes de despacharse.
+     *
+     * @return el total para todos los nombres
+     */
+    long getConflatedCount() {
+        return total.sum();
+    }
+
+    /**
+     * Cantidad de notificaciones reemplazadas antes de despacharse.
+     *
+     * @param notificationName el nombre de la notificación
+     * @return el total para ese nombre
+     */
+    long getConflatedCount(String notificationName) {
+        LongAdder count = conflated.get(notificationName);
+        return count != null ? count.sum() : 0;
+    }
+
+    private static final class Key {
+        final String notificationName;
+        final Object conflationKey;
+
+        Key(String notificationName, Object conflationKey) {
+            this.notificationName = notificationName;
+            this.conflationKey = conflationKey;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if(!(object instanceof Key)) return false;
+            Key other = (Key) object;
+            return notificationName.equals(other.notificationName) && Objects.equals(conflationKey, other.conflationKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * notificationName.hashCode() + Objects.hashCode(conflationKey);
+        }
+    }
+}
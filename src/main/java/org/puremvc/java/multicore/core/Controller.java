@@ -7,16 +7,38 @@
 
 package org.puremvc.java.multicore.core;
 
+import org.puremvc.java.multicore.interfaces.BlockingPolicy;
+import org.puremvc.java.multicore.interfaces.IAsyncCommand;
+import org.puremvc.java.multicore.interfaces.IBlocking;
 import org.puremvc.java.multicore.interfaces.ICommand;
+import org.puremvc.java.multicore.interfaces.ICommandProvider;
 import org.puremvc.java.multicore.interfaces.IController;
+import org.puremvc.java.multicore.interfaces.IMemoizedCommand;
 import org.puremvc.java.multicore.interfaces.INotification;
 import org.puremvc.java.multicore.interfaces.IView;
+import org.puremvc.java.multicore.patterns.command.Bulkhead;
+import org.puremvc.java.multicore.patterns.command.BulkheadStats;
+import org.puremvc.java.multicore.patterns.command.CommandExecutions;
+import org.puremvc.java.multicore.patterns.command.CommandSuppliers;
+import org.puremvc.java.multicore.patterns.command.Resilience;
+import org.puremvc.java.multicore.patterns.command.ResultCacheStats;
+import org.puremvc.java.multicore.patterns.observer.Notification;
+import org.puremvc.java.multicore.patterns.observer.NotificationRegistry;
 import org.puremvc.java.multicore.patterns.observer.Observer;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -48,12 +70,43 @@ import java.util.function.Supplier;
 
 public class Controller implements IController {
 
+    /**
+     * Nombre de la notificación enviada cuando falla la ejecución en curso de
+     * un ICommand después de que executeCommand retornó, por ejemplo la
+     * CompletionStage de un IAsyncCommand o un ICommand bloqueante con
+     * FIRE_AND_FORGET. El cuerpo es la excepción y el tipo el nombre de la
+     * notificación que inició la ejecución. Las cancelaciones no se notifican.
+     */
+    public static final String COMMAND_FAILED = "PureMVC.commandFailed";
+
     // Referencia local a la Vista
     protected IView view;
 
-    // Mapeo de nombres de Notification a referencias de Command Supplier
+    /**
+     * Asignación de nombres de notificación a Command Suppliers.
+     *
+     * @deprecated el Controller ejecuta desde commandTable; este mapa solo
+     * refleja el primer ICommand de cada notificación, para las subclases que
+     * lo leen, y los cambios hechos en él no afectan la ejecución.
+     */
+    @Deprecated
     protected ConcurrentMap<String, Supplier<ICommand>> commandMap;
 
+    // Command Suppliers, en orden de ejecución, indexados por identificador de Notification (copy-on-write)
+    protected volatile Supplier<ICommand>[][] commandTable;
+
+    // Tiempo límite en nanosegundos de los IAsyncCommands indexado por identificador de Notification (copy-on-write)
+    private volatile long[] timeoutTable = new long[0];
+
+    // Cachés de resultados de IMemoizedCommands indexadas por identificador de Notification (copy-on-write)
+    private volatile ResultCache[] resultCacheTable = new ResultCache[0];
+
+    // Bulkheads registrados por nombre
+    private final ConcurrentMap<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    // Ejecuciones en curso de IAsyncCommands
+    private final InFlightTracker inFlight = new InFlightTracker();
+
     // La clave Multiton para este Core
     protected String multitonKey;
 
@@ -80,6 +133,7 @@ public class Controller implements IController {
         multitonKey = key;
         instanceMap.put(key, this);
         commandMap = new ConcurrentHashMap<>();
+        commandTable = newCommandTable(0);
         initializeController();
     }
 
@@ -120,25 +174,108 @@ public class Controller implements IController {
     }
 
     /**
-     * Si un ICommand fue previamente registrado para manejar la INotification dada,
-     * es ejecutado.
+     * Si uno o más ICommands fueron previamente registrados para manejar la
+     * INotification dada, son ejecutados en el orden en que se registraron.
+     *
+     * Si el supplier registrado es un ICommandProvider, la instancia se obtiene
+     * ya inicializada con acquire y se devuelve con release al terminar; si no,
+     * se crea una instancia nueva por cada INotification.
+     *
+     * Si el ICommand implementa IBlocking y el despacho en hilos virtuales está
+     * activo en la View, se ejecuta en un hilo virtual según la BlockingPolicy
+     * de la notificación.
+     *
+     * Si el ICommand implementa IAsyncCommand, se llama a executeAsync y la
+     * CompletionStage devuelta se sigue como ejecución en curso hasta que se
+     * completa o vence el tiempo límite configurado con setCommandTimeout.
+     *
+     * Si el ICommand implementa IMemoizedCommand y la notificación tiene una
+     * caché configurada con setResultCache, se ejecuta en línea y compute solo
+     * se llama si el resultado para ese cuerpo no está guardado.
      *
      * @param notification una INotification
      */
 
     public void executeCommand(INotification notification) {
-        Supplier<ICommand> commandSupplier = commandMap.get(notification.getName());
-        if(commandSupplier == null) return;
-        ICommand commandInstance = commandSupplier.get();
-        commandInstance.initializeNotifier(multitonKey);
-        commandInstance.execute(notification);
+        int id = NotificationRegistry.find(notification);
+        Supplier<ICommand>[][] table = commandTable;
+        if(id == NotificationRegistry.UNKNOWN || id >= table.length) return;
+        Supplier<ICommand>[] commandSuppliers = table[id];
+        if(commandSuppliers == null) return;
+        for(Supplier<ICommand> commandSupplier : commandSuppliers) {
+            executeCommand(id, commandSupplier, notification);
+        }
+    }
+
+    private void executeCommand(int id, Supplier<ICommand> commandSupplier, INotification notification) {
+        CompletableFuture<Object> execution = CommandExecutions.execute(commandSupplier, multitonKey, notification,
+                (command, n) -> run(id, commandSupplier, command, n));
+        if(!execution.isDone() || execution.isCompletedExceptionally()) {
+            execution.whenComplete((result, error) -> {
+                if(error != null) reportFailure(notification, error);
+            });
+        }
+    }
+
+    // informa una falla que ya no puede lanzarse al emisor de la notificación
+    private void reportFailure(INotification notification, Throwable error) {
+        if(error instanceof CancellationException) return;
+        if(COMMAND_FAILED.equals(notification.getName())) {
+            // un ICommand de COMMAND_FAILED que falla no se vuelve a notificar
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+            return;
+        }
+        view.notifyObservers(new Notification(COMMAND_FAILED, error, notification.getName()));
+    }
+
+    // ejecuta la instancia y devuelve la CompletionStage de lo que sigue en curso, o null si ya terminó
+    private CompletionStage<?> run(int id, Supplier<ICommand> commandSupplier, ICommand commandInstance, INotification notification) {
+        ResultCache[] caches = resultCacheTable;
+        ResultCache cache = id < caches.length ? caches[id] : null;
+        if(cache != null && commandInstance instanceof IMemoizedCommand) {
+            executeMemoized(cache, commandSupplier, (IMemoizedCommand) commandInstance, notification);
+            return null;
+        }
+
+        if(commandInstance instanceof IAsyncCommand) {
+            long[] timeouts = timeoutTable;
+            return inFlight.track(id, ((IAsyncCommand) commandInstance).executeAsync(notification), id < timeouts.length ? timeouts[id] : 0);
+        }
+
+        Executor blocking = commandInstance instanceof IBlocking ? view.getBlockingExecutor() : null;
+        if(blocking == null) {
+            commandInstance.execute(notification);
+            return null;
+        }
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> commandInstance.execute(notification), blocking);
+        if(view.getBlockingPolicy(id) != BlockingPolicy.JOIN) return future;
+        View.await(future);
+        return null;
+    }
+
+    private void executeMemoized(ResultCache cache, Supplier<ICommand> commandSupplier, IMemoizedCommand commandInstance, INotification notification) {
+        Object body = notification.getBody();
+        Object result = cache.get(commandSupplier, body);
+        if(result == ResultCache.MISS) {
+            result = commandInstance.compute(notification);
+            cache.put(commandSupplier, body, result);
+        }
+        commandInstance.publish(notification, result);
+    }
+
+    private void setResultCache(int id, ResultCache cache) {
+        ResultCache[] caches = Arrays.copyOf(resultCacheTable, Math.max(resultCacheTable.length, id + 1));
+        caches[id] = cache;
+        resultCacheTable = caches;
     }
 
     /**
      * Registra una clase ICommand particular como el manejador de una INotification en particular.
      *
-     * Si un ICommand ya fue registrado para manejar INotifications con ese nombre,
-     * deja de usarse y se usa el nuevo ICommand.
+     * Si ya había ICommands registrados para manejar INotifications con ese nombre,
+     * dejan de usarse y se usa el nuevo ICommand. Para agregar un ICommand
+     * sin reemplazar los existentes, usa addCommand.
      *
      * El Observer para el nuevo ICommand sólo se crea si esta es la primera vez que un ICommand
      * es registrado para ese nombre de Notification.
@@ -148,10 +285,111 @@ public class Controller implements IController {
      */
 
     public void registerCommand(String notificationName, Supplier<ICommand> commandSupplier) {
-        if(commandMap.get(notificationName) == null) {
-            view.registerObserver(notificationName, new Observer(this::executeCommand, this));
+        registerCommand(NotificationRegistry.idOf(notificationName), commandSupplier);
+    }
+
+    /**
+     * Registra una clase ICommand como el manejador de una INotification en particular.
+     *
+     * El Supplier de la clase se genera con LambdaMetafactory la primera vez
+     * que se registra y se reutiliza para los registros siguientes.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandClass la clase del ICommand, con un constructor público sin argumentos
+     * @throws IllegalArgumentException si la clase no tiene un constructor público sin argumentos
+     */
+
+    public void registerCommand(String notificationName, Class<? extends ICommand> commandClass) {
+        registerCommand(NotificationRegistry.idOf(notificationName), CommandSuppliers.of(commandClass));
+    }
+
+    /**
+     * Registra un ICommand protegido con reintentos y un circuito como el
+     * manejador de una INotification en particular.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandSupplier una referencia al supplier de ICommand
+     * @param resilience la política de reintentos y circuito
+     */
+
+    public void registerCommand(String notificationName, Supplier<ICommand> commandSupplier, Resilience resilience) {
+        registerCommand(notificationName, resilience.apply(commandSupplier));
+    }
+
+    /**
+     * Registra un ICommand como el manejador de una INotification en particular,
+     * para ejecutarse en un Bulkhead registrado.
+     *
+     * El Bulkhead se busca por nombre en cada ejecución, de modo que
+     * reemplazarlo con registerBulkhead también afecta a este registro; el
+     * supplier envuelto se crea una vez por Bulkhead y se reutiliza.
+     * Si al ejecutarse ya no hay un Bulkhead con ese nombre, la ejecución
+     * se rechaza con RejectedExecutionException.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandSupplier una referencia al supplier de ICommand
+     * @param bulkheadName el nombre del Bulkhead
+     * @throws IllegalArgumentException si no hay un Bulkhead registrado con ese nombre
+     */
+
+    public void registerBulkheadCommand(String notificationName, Supplier<ICommand> commandSupplier, String bulkheadName) {
+        if(!bulkheads.containsKey(bulkheadName)) throw new IllegalArgumentException("No hay un Bulkhead registrado con el nombre " + bulkheadName);
+        registerCommand(notificationName, new BulkheadSupplier(bulkheadName, commandSupplier));
+    }
+
+    /**
+     * Registra una clase ICommand particular como el manejador de una INotification en particular.
+     *
+     * @param notificationId el identificador de la INotification
+     * @param commandSupplier una referencia al supplier de ICommand
+     */
+
+    public synchronized void registerCommand(int notificationId, Supplier<ICommand> commandSupplier) {
+        setCommands(notificationId, newCommandList(commandSupplier));
+    }
+
+    /**
+     * Agrega un ICommand a los que manejan una INotification en particular.
+     *
+     * Los ICommands de un mismo nombre se ejecutan en el orden en que se
+     * agregaron, desde un único Observer registrado en la View.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandSupplier una referencia al supplier de ICommand
+     */
+
+    public void addCommand(String notificationName, Supplier<ICommand> commandSupplier) {
+        addCommand(NotificationRegistry.idOf(notificationName), commandSupplier);
+    }
+
+    /**
+     * Agrega una clase ICommand a las que manejan una INotification en particular.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandClass la clase del ICommand, con un constructor público sin argumentos
+     * @throws IllegalArgumentException si la clase no tiene un constructor público sin argumentos
+     */
+
+    public void addCommand(String notificationName, Class<? extends ICommand> commandClass) {
+        addCommand(NotificationRegistry.idOf(notificationName), CommandSuppliers.of(commandClass));
+    }
+
+    /**
+     * Agrega un ICommand a los que manejan una INotification en particular.
+     *
+     * @param notificationId el identificador de la INotification
+     * @param commandSupplier una referencia al supplier de ICommand
+     */
+
+    public synchronized void addCommand(int notificationId, Supplier<ICommand> commandSupplier) {
+        Supplier<ICommand>[] current = getCommands(notificationId);
+        if(current == null) {
+            setCommands(notificationId, newCommandList(commandSupplier));
+            return;
         }
-        commandMap.put(notificationName, commandSupplier);
+        Supplier<ICommand>[] commands = Arrays.copyOf(current, current.length + 1);
+        commands[current.length] = commandSupplier;
+        setCommands(notificationId, commands);
     }
 
     /**
@@ -161,12 +399,55 @@ public class Controller implements IController {
      */
 
     public void removeCommand(String notificationName) {
-        if(hasCommand(notificationName)) {
-            view.removeObserver(notificationName, this);
-            commandMap.remove(notificationName);
+        int id = NotificationRegistry.find(notificationName);
+        if(id != NotificationRegistry.UNKNOWN) removeCommand(id);
+    }
+
+    /**
+     * Elimina el mapeo previo de un ICommand a una INotification.
+     *
+     * @param notificationId el identificador de la INotification para eliminar el mapeo ICommand
+     */
+
+    public synchronized void removeCommand(int notificationId) {
+        if(hasCommand(notificationId)) setCommands(notificationId, null);
+    }
+
+    /**
+     * Elimina un único ICommand de los que manejan una INotification.
+     *
+     * Los demás ICommands de ese nombre se mantienen, en el mismo orden.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandSupplier el supplier de ICommand registrado
+     */
+
+    public synchronized void removeCommand(String notificationName, Supplier<ICommand> commandSupplier) {
+        int id = NotificationRegistry.find(notificationName);
+        Supplier<ICommand>[] current = id != NotificationRegistry.UNKNOWN ? getCommands(id) : null;
+        if(current == null) return;
+        for(int i = 0; i < current.length; i++) {
+            if(current[i].equals(commandSupplier)) {
+                Supplier<ICommand>[] commands = newCommandList(current.length - 1);
+                System.arraycopy(current, 0, commands, 0, i);
+                System.arraycopy(current, i + 1, commands, i, current.length - i - 1);
+                setCommands(id, commands.length > 0 ? commands : null);
+                return;
+            }
         }
     }
 
+    /**
+     * Elimina una única clase ICommand de las que manejan una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandClass la clase del ICommand registrada por clase
+     */
+
+    public void removeCommand(String notificationName, Class<? extends ICommand> commandClass) {
+        removeCommand(notificationName, CommandSuppliers.of(commandClass));
+    }
+
     /**
      * Verifica si un Command está registrado para una Notification dada.
      *
@@ -175,17 +456,305 @@ public class Controller implements IController {
      */
 
     public boolean hasCommand(String notificationName) {
-        return commandMap.get(notificationName) != null;
+        int id = NotificationRegistry.find(notificationName);
+        return id != NotificationRegistry.UNKNOWN && hasCommand(id);
     }
 
     /**
-     * Elimina una instancia IController.
+     * Verifica si un Command está registrado para una Notification dada.
+     *
+     * @param notificationId identificador de la notificación
+     * @return si hay un Command registrado actualmente para el notificationId dado
+     */
+
+    public boolean hasCommand(int notificationId) {
+        return getCommands(notificationId) != null;
+    }
+
+    private Supplier<ICommand>[] getCommands(int notificationId) {
+        Supplier<ICommand>[][] table = commandTable;
+        return notificationId < table.length ? table[notificationId] : null;
+    }
+
+    /**
+     * Reemplaza los ICommands de una INotification y registra o elimina el
+     * Observer de la View cuando la lista deja de estar o queda vacía.
+     * Se llama con el lock de this tomado.
+     */
+
+    private void setCommands(int notificationId, Supplier<ICommand>[] commands) {
+        boolean registered = hasCommand(notificationId);
+        if(commands != null && !registered) {
+            view.registerObserver(notificationId, new Observer(this::executeCommand, this));
+        } else if(commands == null && registered) {
+            view.removeObserver(notificationId, this);
+        }
+        Supplier<ICommand>[] previous = getCommands(notificationId);
+        Supplier<ICommand>[][] table = commandTable;
+        table = Arrays.copyOf(table, Math.max(table.length, notificationId + 1));
+        table[notificationId] = commands;
+        commandTable = table;
+        if(commands != null) {
+            commandMap.put(NotificationRegistry.nameOf(notificationId), commands[0]);
+        } else {
+            commandMap.remove(NotificationRegistry.nameOf(notificationId));
+        }
+        if(previous != null) {
+            for(Supplier<ICommand> supplier : previous) {
+                if(supplier instanceof ICommandProvider && !isRegistered(supplier)) ((ICommandProvider) supplier).dispose(multitonKey);
+            }
+        }
+    }
+
+    // si el supplier sigue registrado para alguna INotification de este Controller
+    private boolean isRegistered(Supplier<ICommand> supplier) {
+        for(Supplier<ICommand>[] commands : commandTable) {
+            if(commands == null) continue;
+            for(Supplier<ICommand> command : commands) {
+                if(command.equals(supplier)) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Establece el tiempo límite de los IAsyncCommands de una INotification.
+     *
+     * Si una ejecución no termina a tiempo, su CompletableFuture se completa
+     * con TimeoutException y deja de contarse como en curso.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param timeout el tiempo límite, o 0 para quitarlo
+     * @param unit la unidad de timeout
+     */
+
+    public synchronized void setCommandTimeout(String notificationName, long timeout, TimeUnit unit) {
+        int id = NotificationRegistry.idOf(notificationName);
+        long[] table = Arrays.copyOf(timeoutTable, Math.max(timeoutTable.length, id + 1));
+        table[id] = Math.max(0, unit.toNanos(timeout));
+        timeoutTable = table;
+    }
+
+    /**
+     * Configura la caché de resultados de los IMemoizedCommands de una INotification.
+     *
+     * Los resultados guardados se descartan cuando se envía cualquiera de las
+     * notificaciones invalidatedBy, por ejemplo la que envía un IProxy al
+     * cambiar sus datos. Reemplaza la caché anterior, con sus resultados.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param capacity la cantidad máxima de resultados guardados
+     * @param invalidatedBy los nombres de las notificaciones que descartan los resultados
+     * @throws IllegalArgumentException si capacity no es positiva
+     */
+
+    public synchronized void setResultCache(String notificationName, int capacity, String... invalidatedBy) {
+        int id = NotificationRegistry.idOf(notificationName);
+        ResultCache cache = new ResultCache(capacity, invalidatedBy.clone());
+        ResultCache[] caches = resultCacheTable;
+        if(id < caches.length && caches[id] != null) {
+            for(String name : caches[id].invalidatedBy) view.removeObserver(name, caches[id]);
+        }
+        for(String name : invalidatedBy) {
+            view.registerObserver(name, new Observer(notification -> cache.invalidate(), cache));
+        }
+        setResultCache(id, cache);
+    }
+
+    /**
+     * Descarta los resultados guardados de los IMemoizedCommands de una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     */
+
+    public void invalidateResults(String notificationName) {
+        int id = NotificationRegistry.find(notificationName);
+        ResultCache[] caches = resultCacheTable;
+        if(id != NotificationRegistry.UNKNOWN && id < caches.length && caches[id] != null) caches[id].invalidate();
+    }
+
+    /**
+     * Obtiene los contadores de la caché de resultados de una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     * @return los contadores, o null si la notificación no tiene caché
+     */
+
+    public ResultCacheStats getResultCacheStats(String notificationName) {
+        int id = NotificationRegistry.find(notificationName);
+        ResultCache[] caches = resultCacheTable;
+        return id != NotificationRegistry.UNKNOWN && id < caches.length && caches[id] != null ? caches[id].stats() : null;
+    }
+
+    /**
+     * Registra un Bulkhead para los ICommands de este Core.
+     *
+     * Si ya había un Bulkhead con ese nombre, se reemplaza y se detiene
+     * después de ejecutar los ICommands que ya había aceptado; las
+     * ejecuciones siguientes usan el nuevo.
+     *
+     * @param bulkhead el Bulkhead
+     */
+
+    public void registerBulkhead(Bulkhead bulkhead) {
+        Bulkhead previous = bulkheads.put(bulkhead.getName(), bulkhead);
+        if(previous != null && previous != bulkhead) previous.shutdown();
+    }
+
+    /**
+     * Elimina y detiene un Bulkhead.
+     *
+     * @param bulkheadName el nombre del Bulkhead
+     * @return el Bulkhead eliminado, o null si no estaba registrado
+     */
+
+    public Bulkhead removeBulkhead(String bulkheadName) {
+        Bulkhead bulkhead = bulkheads.remove(bulkheadName);
+        if(bulkhead != null) bulkhead.shutdown();
+        return bulkhead;
+    }
+
+    /**
+     * Obtiene los contadores de un Bulkhead.
+     *
+     * @param bulkheadName el nombre del Bulkhead
+     * @return los contadores, o null si no estaba registrado
+     */
+
+    public BulkheadStats getBulkheadStats(String bulkheadName) {
+        Bulkhead bulkhead = bulkheads.get(bulkheadName);
+        return bulkhead != null ? bulkhead.getStats() : null;
+    }
+
+    /**
+     * Obtiene la cantidad de IAsyncCommands en curso para una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     * @return la cantidad de ejecuciones en curso
+     */
+
+    public int getInFlightCount(String notificationName) {
+        int id = NotificationRegistry.find(notificationName);
+        return id != NotificationRegistry.UNKNOWN ? inFlight.count(id) : 0;
+    }
+
+    /**
+     * Obtiene la cantidad total de IAsyncCommands en curso.
+     *
+     * @return la cantidad de ejecuciones en curso
+     */
+
+    public int getInFlightCount() {
+        return inFlight.count();
+    }
+
+    /**
+     * Cancela los IAsyncCommands en curso para una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     * @return la cantidad de ejecuciones canceladas
+     */
+
+    public int cancelInFlight(String notificationName) {
+        int id = NotificationRegistry.find(notificationName);
+        return id != NotificationRegistry.UNKNOWN ? inFlight.cancel(id) : 0;
+    }
+
+    /**
+     * Espera a que no quede ningún IAsyncCommand en curso.
+     *
+     * @param timeout el tiempo máximo de espera
+     * @param unit la unidad de timeout
+     * @return si no queda ninguna ejecución en curso
+     * @throws InterruptedException si el hilo que espera es interrumpido
+     */
+
+    public boolean awaitQuiescence(long timeout, TimeUnit unit) throws InterruptedException {
+        return inFlight.awaitQuiescence(timeout, unit);
+    }
+
+    /**
+     * Crea una tabla de Command Suppliers vacía.
+     */
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<ICommand>[][] newCommandTable(int length) {
+        return (Supplier<ICommand>[][]) new Supplier<?>[length][];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<ICommand>[] newCommandList(int length) {
+        return (Supplier<ICommand>[]) new Supplier<?>[length];
+    }
+
+    private static Supplier<ICommand>[] newCommandList(Supplier<ICommand> commandSupplier) {
+        Supplier<ICommand>[] commands = newCommandList(1);
+        commands[0] = commandSupplier;
+        return commands;
+    }
+
+    /**
+     * Elimina una instancia IController, detiene sus Bulkheads y descarta las
+     * instancias del Core en sus ICommandProviders.
      *
      * @param key multitonKey de la instancia IController a eliminar
      */
 
     public synchronized static void removeController(String key) {
-        instanceMap.remove(key);
+        IController controller = instanceMap.remove(key);
+        if(controller instanceof Controller) {
+            ((Controller) controller).shutdownBulkheads();
+            ((Controller) controller).disposeProviders();
+        }
     }
 
+    private synchronized void disposeProviders() {
+        Set<ICommandProvider> providers = new HashSet<>();
+        for(Supplier<ICommand>[] commands : commandTable) {
+            if(commands == null) continue;
+            for(Supplier<ICommand> command : commands) {
+                if(command instanceof ICommandProvider) providers.add((ICommandProvider) command);
+            }
+        }
+        for(ICommandProvider provider : providers) provider.dispose(multitonKey);
+    }
+
+    private void shutdownBulkheads() {
+        for(String bulkheadName : bulkheads.keySet()) removeBulkhead(bulkheadName);
+    }
+
+
+    // supplier que ejecuta en el Bulkhead registrado con un nombre
+    private final class BulkheadSupplier implements Supplier<ICommand> {
+
+        private final String bulkheadName;
+
+        private final Supplier<ICommand> commandSupplier;
+
+        // el último Bulkhead usado, con su supplier envuelto
+        private volatile Binding binding;
+
+        BulkheadSupplier(String bulkheadName, Supplier<ICommand> commandSupplier) {
+            this.bulkheadName = bulkheadName;
+            this.commandSupplier = commandSupplier;
+        }
+
+        public ICommand get() {
+            Bulkhead bulkhead = bulkheads.get(bulkheadName);
+            if(bulkhead == null) throw new RejectedExecutionException("No hay un Bulkhead registrado con el nombre " + bulkheadName);
+            Binding current = binding;
+            if(current == null || current.bulkhead != bulkhead) binding = current = new Binding(bulkhead, bulkhead.apply(commandSupplier));
+            return current.supplier.get();
+        }
+    }
+
+    private static final class Binding {
+        final Bulkhead bulkhead;
+        final Supplier<ICommand> supplier;
+
+        Binding(Bulkhead bulkhead, Supplier<ICommand> supplier) {
+            this.bulkhead = bulkhead;
+            this.supplier = supplier;
+        }
+    }
 }
@@ -0,0 +1,93 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bucle de eventos de un solo hilo usado por View en el modo actor.
+ *
+ * Cualquier hilo puede encolar tareas en la bandeja de entrada (varios
+ * productores, un consumidor) sin bloquearse ni competir por un lock;
+ * el hilo del bucle las ejecuta una a una en orden de llegada y se
+ * estaciona cuando la bandeja queda vacía.
+ *
+ * Un error en una tarea se entrega al UncaughtExceptionHandler del hilo
+ * y el bucle continúa con la siguiente.
+ */
+final class EventLoop implements Executor, Runnable {
+
+    private final Queue<Runnable> inbox = new ConcurrentLinkedQueue<>();
+
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    // el hilo del bucle está (o está por quedar) estacionado
+    private volatile boolean sleeping;
+
+    EventLoop(String name) {
+        thread = new Thread(this, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Encola una tarea para el hilo del bucle.
+     *
+     * Si el bucle se detiene mientras se encola, la tarea se retira y se
+     * rechaza, salvo que el bucle ya la haya tomado.
+     *
+     * @param task la tarea a ejecutar
+     * @throws RejectedExecutionException si el bucle fue detenido
+     */
+    public void execute(Runnable task) {
+        if(!running) throw new RejectedExecutionException("El bucle de eventos fue detenido");
+        inbox.offer(task);
+        if(!running && inbox.remove(task)) throw new RejectedExecutionException("El bucle de eventos fue detenido");
+        if(sleeping) LockSupport.unpark(thread);
+    }
+
+    /**
+     * Indica si el hilo que llama es el hilo del bucle.
+     *
+     * @return si el hilo actual es el del bucle
+     */
+    boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Detiene el bucle después de ejecutar las tareas ya encoladas.
+     */
+    void shutdown() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    public void run() {
+        while(running || !inbox.isEmpty()) {
+            Runnable task = inbox.poll();
+            if(task == null) {
+                sleeping = true;
+                if(running && inbox.isEmpty()) LockSupport.park(this);
+                sleeping = false;
+                continue;
+            }
+            try {
+                task.run();
+            } catch(Throwable error) {
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+            }
+        }
+    }
+}
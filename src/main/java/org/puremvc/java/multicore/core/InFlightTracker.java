@@ -0,0 +1,156 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import org.puremvc.java.multicore.patterns.observer.SharedScheduler;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Ejecuciones en curso de IAsyncCommands de un Controller.
+ *
+ * Agrupa por identificador de notificación las CompletionStages que aún
+ * no se completaron, aplica los tiempos límite con SharedScheduler y
+ * permite esperar a que no quede ninguna.
+ */
+final class InFlightTracker {
+
+    private final ConcurrentMap<Integer, Set<CompletableFuture<?>>> inFlight = new ConcurrentHashMap<>();
+
+    // total de ejecuciones en curso; se modifica y se espera bajo el monitor de this
+    private int total;
+
+    /**
+     * Sigue una ejecución hasta que se complete.
+     *
+     * El tiempo límite completa una copia dependiente de la CompletionStage,
+     * nunca la CompletionStage del IAsyncCommand, que puede ser compartida.
+     * Cancelar la copia sí cancela la ejecución original.
+     *
+     * @param notificationId el identificador de la notificación que la inició
+     * @param stage la CompletionStage devuelta por el IAsyncCommand
+     * @param timeoutNanos el tiempo límite, o 0 sin límite
+     * @return el CompletableFuture seguido
+     */
+    CompletableFuture<?> track(int notificationId, CompletionStage<?> stage, long timeoutNanos) {
+        CompletableFuture<Object> future = copy(stage);
+        inFlight.compute(notificationId, (id, executions) -> {
+            if(executions == null) executions = ConcurrentHashMap.newKeySet();
+            executions.add(future);
+            return executions;
+        });
+        synchronized(this) {
+            total++;
+        }
+        ScheduledFuture<?> timer = null;
+        if(timeoutNanos > 0 && !future.isDone()) {
+            timer = SharedScheduler.get().schedule(() -> {
+                future.completeExceptionally(new TimeoutException("El ICommand no terminó a tiempo"));
+            }, timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+        ScheduledFuture<?> scheduled = timer;
+        future.whenComplete((result, error) -> {
+            if(scheduled != null) scheduled.cancel(false);
+            if(future.isCancelled()) cancel(stage);
+            untrack(notificationId, future);
+        });
+        return future;
+    }
+
+    // quita la ejecución y, si era la última de la notificación, también su conjunto
+    private void untrack(int notificationId, CompletableFuture<?> future) {
+        boolean[] removed = new boolean[1];
+        inFlight.computeIfPresent(notificationId, (id, executions) -> {
+            removed[0] = executions.remove(future);
+            return executions.isEmpty() ? null : executions;
+        });
+        if(removed[0]) {
+            synchronized(this) {
+                if(--total == 0) notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Cancela las ejecuciones en curso de una notificación.
+     *
+     * @param notificationId el identificador de la notificación
+     * @return la cantidad de ejecuciones canceladas
+     */
+    int cancel(int notificationId) {
+        Set<CompletableFuture<?>> executions = inFlight.get(notificationId);
+        if(executions == null) return 0;
+        int cancelled = 0;
+        for(CompletableFuture<?> future : executions) {
+            if(future.cancel(true)) cancelled++;
+        }
+        return cancelled;
+    }
+
+    /**
+     * Cantidad de ejecuciones en curso de una notificación.
+     *
+     * @param notificationId el identificador de la notificación
+     * @return la cantidad de ejecuciones en curso
+     */
+    int count(int notificationId) {
+        Set<CompletableFuture<?>> executions = inFlight.get(notificationId);
+        return executions != null ? executions.size() : 0;
+    }
+
+    /**
+     * Cantidad total de ejecuciones en curso.
+     *
+     * @return la cantidad de ejecuciones en curso
+     */
+    synchronized int count() {
+        return total;
+    }
+
+    /**
+     * Espera a que no quede ninguna ejecución en curso.
+     *
+     * @param timeout el tiempo máximo de espera
+     * @param unit la unidad de timeout
+     * @return si no queda ninguna ejecución en curso
+     * @throws InterruptedException si el hilo que espera es interrumpido
+     */
+    synchronized boolean awaitQuiescence(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while(total > 0) {
+            long remaining = deadline - System.nanoTime();
+            if(remaining <= 0) return false;
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    private static void cancel(CompletionStage<?> stage) {
+        try {
+            stage.toCompletableFuture().cancel(true);
+        } catch(UnsupportedOperationException ignored) {
+            // la CompletionStage no se puede cancelar desde fuera
+        }
+    }
+
+    private static CompletableFuture<Object> copy(CompletionStage<?> stage) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        stage.whenComplete((result, error) -> {
+            if(error != null) future.completeExceptionally(error);
+            else future.complete(result);
+        });
+        return future;
+    }
+}
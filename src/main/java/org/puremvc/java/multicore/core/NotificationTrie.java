@@ -0,0 +1,140 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trie de suscripciones jerárquicas usado por View.
+ *
+ * Los nombres de notificación se dividen en segmentos separados por '.'.
+ * Un patrón puede usar '*' para aceptar exactamente un segmento
+ * ({@code order.*} acepta {@code order.update} pero no {@code order.update.price})
+ * y '**' como último segmento para aceptar uno o más segmentos
+ * ({@code order.**} acepta ambos).
+ *
+ * No es seguro para hilos: View lo modifica y lo consulta bajo su propio bloqueo,
+ * y solo lo consulta al resolver un nombre que no está en su caché.
+ */
+final class NotificationTrie {
+
+    private static final String ANY = "*";
+    private static final String ANY_DEPTH = "**";
+
+    private final Node root = new Node();
+
+    private volatile int size;
+
+    /**
+     * Indica si un nombre de notificación es un patrón con comodines.
+     *
+     * @param notificationName el nombre a evaluar
+     * @return si alguno de sus segmentos es '*' o '**'
+     */
+    static boolean isPattern(String notificationName) {
+        for(String segment : split(notificationName)) {
+            if(ANY.equals(segment) || ANY_DEPTH.equals(segment)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Agrega una suscripción para un patrón.
+     *
+     * @param pattern el patrón con comodines
+     * @param subscription la suscripción a registrar
+     * @throws IllegalArgumentException si '**' no es el último segmento
+     */
+    void add(String pattern, Subscription subscription) {
+        String[] segments = split(pattern);
+        Node node = root;
+        for(int i = 0; i < segments.length; i++) {
+            if(ANY_DEPTH.equals(segments[i])) {
+                if(i != segments.length - 1) throw new IllegalArgumentException("'**' solo puede ser el último segmento: " + pattern);
+                node.anyDepth.add(subscription);
+                size++;
+                return;
+            }
+            node = node.children.computeIfAbsent(segments[i], segment -> new Node());
+        }
+        node.subscriptions.add(subscription);
+        size++;
+    }
+
+    /**
+     * Elimina la primera suscripción de un patrón con el notifyContext dado.
+     *
+     * @param pattern el patrón con comodines
+     * @param notifyContext el notifyContext de la suscripción a eliminar
+     * @return la suscripción eliminada, o null si no había ninguna
+     */
+    Subscription remove(String pattern, Object notifyContext) {
+        String[] segments = split(pattern);
+        Node node = root;
+        for(int i = 0; i < segments.length && node != null; i++) {
+            if(ANY_DEPTH.equals(segments[i])) return removeFrom(node.anyDepth, notifyContext);
+            node = node.children.get(segments[i]);
+        }
+        return node != null ? removeFrom(node.subscriptions, notifyContext) : null;
+    }
+
+    /**
+     * Indica si no hay ninguna suscripción por patrón.
+     *
+     * @return si el trie está vacío
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Agrega a la lista las suscripciones de todos los patrones que aceptan el nombre dado.
+     *
+     * @param notificationName el nombre concreto de la notificación
+     * @param result la lista donde se agregan las suscripciones
+     */
+    void match(String notificationName, List<Subscription> result) {
+        if(size == 0) return;
+        match(root, split(notificationName), 0, result);
+    }
+
+    private void match(Node node, String[] segments, int index, List<Subscription> result) {
+        if(index == segments.length) {
+            result.addAll(node.subscriptions);
+            return;
+        }
+        result.addAll(node.anyDepth);
+        Node literal = node.children.get(segments[index]);
+        if(literal != null) match(literal, segments, index + 1, result);
+        Node any = node.children.get(ANY);
+        if(any != null) match(any, segments, index + 1, result);
+    }
+
+    private Subscription removeFrom(List<Subscription> subscriptions, Object notifyContext) {
+        for(int i = 0; i < subscriptions.size(); i++) {
+            if(subscriptions.get(i).compareNotifyContext(notifyContext)) {
+                size--;
+                return subscriptions.remove(i);
+            }
+        }
+        return null;
+    }
+
+    private static String[] split(String notificationName) {
+        return notificationName.split("\\.", -1);
+    }
+
+    private static final class Node {
+        final Map<String, Node> children = new HashMap<>();
+        final List<Subscription> subscriptions = new ArrayList<>();
+        final List<Subscription> anyDepth = new ArrayList<>();
+    }
+}
@@ -0,0 +1,193 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import org.puremvc.java.multicore.interfaces.BackpressurePolicy;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.observer.QueueStats;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Límite de una cola de despacho, para un Core o para un nombre de notificación.
+ *
+ * Cuenta las notificaciones encoladas en el bucle de eventos que aún no
+ * comenzaron a despacharse y aplica la BackpressurePolicy cuando se alcanza
+ * la capacidad. Las notificaciones descartadas con DROP_OLDEST siguen en la
+ * bandeja de entrada del bucle, marcadas para no despacharse.
+ */
+final class QueueLimit {
+
+    final int capacity;
+
+    final BackpressurePolicy policy;
+
+    private final AtomicInteger depth = new AtomicInteger();
+
+    private final AtomicInteger highWaterMark = new AtomicInteger();
+
+    // entradas encoladas en orden de llegada, solo con DROP_OLDEST
+    private final Queue<Entry<?>> pending = new ConcurrentLinkedQueue<>();
+
+    // emisores esperando lugar, solo con BLOCK
+    private volatile int waiters;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+
+    QueueLimit(int capacity, BackpressurePolicy policy) {
+        if(capacity < 1) throw new IllegalArgumentException("La capacidad debe ser positiva: " + capacity);
+        this.capacity = capacity;
+        this.policy = policy;
+    }
+
+    /**
+     * Encola una notificación o aplica la política si la cola está llena.
+     *
+     * @param notification la notificación a despachar
+     * @param loop el bucle de eventos del Core
+     * @param dispatcher la función que despacha la notificación en el hilo actual
+     * @throws RejectedExecutionException con REJECT, si la cola está llena, o si el bucle fue detenido
+     */
+    void offer(INotification notification, Executor loop, Consumer<INotification> dispatcher) {
+        offer(notification, notification.getName(), loop, dispatcher, dropped -> {});
+    }
+
+    /**
+     * Encola una entrada (una notificación, un grupo o un despacho pendiente)
+     * o aplica la política si la cola está llena.
+     *
+     * Si el bucle rechaza la entrada, la cuenta se deshace antes de lanzar la excepción.
+     *
+     * @param item la entrada a despachar
+     * @param notificationName el nombre de la notificación, para el mensaje de rechazo
+     * @param loop el bucle de eventos del Core
+     * @param dispatcher la función que despacha la entrada en el hilo actual
+     * @param onDrop la función que recibe la entrada si se descarta
+     * @param <T> el tipo de la entrada
+     * @throws RejectedExecutionException con REJECT, si la cola está llena, o si el bucle fue detenido
+     */
+    <T> void offer(T item, String notificationName, Executor loop, Consumer<? super T> dispatcher, Consumer<? super T> onDrop) {
+        while(true) {
+            int current = depth.get();
+            if(current < capacity) {
+                if(!depth.compareAndSet(current, current + 1)) continue;
+                highWaterMark.accumulateAndGet(current + 1, Math::max);
+                enqueued.increment();
+                Entry<T> entry = new Entry<>(item, dispatcher, onDrop);
+                if(policy == BackpressurePolicy.DROP_OLDEST) pending.add(entry);
+                try {
+                    loop.execute(entry);
+                } catch(RuntimeException | Error e) {
+                    if(entry.claim()) {
+                        if(policy == BackpressurePolicy.DROP_OLDEST) pending.remove(entry);
+                        enqueued.decrement();
+                        release();
+                    }
+                    throw e;
+                }
+                return;
+            }
+            switch(policy) {
+                case BLOCK:
+                    blocked.increment();
+                    awaitSpace();
+                    break;
+                case DROP_OLDEST:
+                    Entry<?> oldest = pending.poll();
+                    if(oldest != null && oldest.claim()) {
+                        dropped.increment();
+                        release();
+                        oldest.drop();
+                    }
+                    break;
+                case DROP_NEWEST:
+                    dropped.increment();
+                    onDrop.accept(item);
+                    return;
+                case CALLER_RUNS:
+                    callerRuns.increment();
+                    dispatcher.accept(item);
+                    return;
+                default:
+                    rejected.increment();
+                    throw new RejectedExecutionException("Cola de despacho llena para " + notificationName);
+            }
+        }
+    }
+
+    /**
+     * Obtiene una instantánea de los contadores.
+     *
+     * @return los contadores actuales
+     */
+    QueueStats stats() {
+        return new QueueStats(capacity, policy, depth.get(), highWaterMark.get(), enqueued.sum(),
+                dropped.sum(), rejected.sum(), callerRuns.sum(), blocked.sum());
+    }
+
+    private void release() {
+        depth.decrementAndGet();
+        if(waiters > 0) {
+            synchronized(this) {
+                notifyAll();
+            }
+        }
+    }
+
+    private synchronized void awaitSpace() {
+        waiters++;
+        try {
+            while(depth.get() >= capacity) wait();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrumpido esperando lugar en la cola de despacho", e);
+        } finally {
+            waiters--;
+        }
+    }
+
+    private final class Entry<T> implements Runnable {
+        // true cuando la entrega o el descarte ya la reclamó
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final T item;
+        private final Consumer<? super T> dispatcher;
+        private final Consumer<? super T> onDrop;
+
+        Entry(T item, Consumer<? super T> dispatcher, Consumer<? super T> onDrop) {
+            this.item = item;
+            this.dispatcher = dispatcher;
+            this.onDrop = onDrop;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        void drop() {
+            onDrop.accept(item);
+        }
+
+        public void run() {
+            if(!claim()) return;
+            if(policy == BackpressurePolicy.DROP_OLDEST) pending.remove(this);
+            release();
+            dispatcher.accept(item);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Suscripciones resueltas para un nombre de notificación concreto.
+ *
+ * Contiene un arreglo plano para las INotifications sin tipo o de un tipo
+ * sin suscripciones propias, y un arreglo por cada tipo con suscripciones,
+ * que ya incluye a las suscripciones de cualquier tipo. Todos los arreglos
+ * están ordenados por prioridad de despacho.
+ */
+final class Resolution {
+
+    static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+    static final Resolution EMPTY = new Resolution(NO_SUBSCRIPTIONS, NO_SUBSCRIPTIONS, Collections.<String, Subscription[]>emptyMap());
+
+    // Todas las suscripciones, de cualquier tipo o de un tipo concreto
+    final Subscription[] all;
+
+    // Suscripciones a cualquier tipo
+    final Subscription[] anyType;
+
+    // Suscripciones por tipo, incluyendo las de cualquier tipo
+    final Map<String, Subscription[]> byType;
+
+    // La única suscripción, si es a cualquier tipo y no bloqueante; si no, null
+    final Subscription sole;
+
+    private Resolution(Subscription[] all, Subscription[] anyType, Map<String, Subscription[]> byType) {
+        this.all = all;
+        this.anyType = anyType;
+        this.byType = byType;
+        sole = all.length == 1 && all[0].type == null && !all[0].blocking ? all[0] : null;
+    }
+
+    /**
+     * Construye la resolución a partir de las suscripciones que aceptan el nombre.
+     *
+     * Las suscripciones se ordenan de mayor a menor prioridad; el orden
+     * es estable, así que las de igual prioridad conservan su orden.
+     *
+     * @param subscriptions las suscripciones que aceptan el nombre
+     * @return la resolución inmutable
+     */
+    static Resolution of(List<Subscription> subscriptions) {
+        if(subscriptions.isEmpty()) return EMPTY;
+        subscriptions.sort((a, b) -> Integer.compare(b.priority, a.priority));
+
+        List<Subscription> any = new ArrayList<>();
+        Map<String, List<Subscription>> typed = new HashMap<>();
+        for(Subscription subscription : subscriptions) {
+            if(subscription.type == null) {
+                any.add(subscription);
+                for(List<Subscription> list : typed.values()) list.add(subscription);
+            } else {
+                typed.computeIfAbsent(subscription.type, type -> new ArrayList<>(any)).add(subscription);
+            }
+        }
+
+        Map<String, Subscription[]> byType = Collections.emptyMap();
+        if(!typed.isEmpty()) {
+            byType = new HashMap<>();
+            for(Map.Entry<String, List<Subscription>> entry : typed.entrySet()) {
+                byType.put(entry.getKey(), entry.getValue().toArray(NO_SUBSCRIPTIONS));
+            }
+        }
+        Subscription[] anyType = any.toArray(NO_SUBSCRIPTIONS);
+        return new Resolution(byType.isEmpty() ? anyType : subscriptions.toArray(NO_SUBSCRIPTIONS), anyType, byType);
+    }
+
+    /**
+     * Obtiene las suscripciones para un tipo de notificación.
+     *
+     * @param type el tipo de la INotification, puede ser null
+     * @return las suscripciones a notificar, nunca null
+     */
+    Subscription[] subscriptionsFor(String type) {
+        if(type == null || byType.isEmpty()) return anyType;
+        Subscription[] subscriptions = byType.get(type);
+        return subscriptions != null ? subscriptions : anyType;
+    }
+}
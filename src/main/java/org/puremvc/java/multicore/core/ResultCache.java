@@ -0,0 +1,127 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import org.puremvc.java.multicore.patterns.command.ResultCacheStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché LRU acotada de los resultados de IMemoizedCommands de una notificación.
+ *
+ * La clave combina el supplier del ICommand, porque una notificación puede
+ * tener varios ICommands, con el cuerpo de la notificación. Dos ejecuciones
+ * simultáneas con la misma clave pueden calcular el resultado ambas; gana
+ * la última en guardarlo.
+ */
+final class ResultCache {
+
+    // resultado de get cuando la clave no está guardada
+    static final Object MISS = new Object();
+
+    final int capacity;
+
+    // notificaciones que descartan los resultados guardados
+    final String[] invalidatedBy;
+
+    private final LinkedHashMap<Key, Object> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    ResultCache(int capacity, String[] invalidatedBy) {
+        if(capacity < 1) throw new IllegalArgumentException("La capacidad debe ser positiva: " + capacity);
+        this.capacity = capacity;
+        this.invalidatedBy = invalidatedBy;
+        entries = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                if(size() <= ResultCache.this.capacity) return false;
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Obtiene un resultado guardado y cuenta el acierto o el fallo.
+     *
+     * @param command el supplier del ICommand
+     * @param body el cuerpo de la notificación
+     * @return el resultado guardado, o MISS
+     */
+    Object get(Object command, Object body) {
+        Object result;
+        synchronized(this) {
+            result = entries.getOrDefault(new Key(command, body), MISS);
+        }
+        if(result == MISS) misses.increment();
+        else hits.increment();
+        return result;
+    }
+
+    /**
+     * Guarda un resultado, descartando el menos usado si no hay lugar.
+     *
+     * @param command el supplier del ICommand
+     * @param body el cuerpo de la notificación
+     * @param result el resultado
+     */
+    synchronized void put(Object command, Object body, Object result) {
+        entries.put(new Key(command, body), result);
+    }
+
+    /**
+     * Descarta todos los resultados guardados.
+     */
+    void invalidate() {
+        synchronized(this) {
+            entries.clear();
+        }
+        invalidations.increment();
+    }
+
+    /**
+     * Obtiene una instantánea de los contadores.
+     *
+     * @return los contadores actuales
+     */
+    ResultCacheStats stats() {
+        int size;
+        synchronized(this) {
+            size = entries.size();
+        }
+        return new ResultCacheStats(capacity, size, hits.sum(), misses.sum(), evictions.sum(), invalidations.sum());
+    }
+
+    private static final class Key {
+        private final Object command;
+        private final Object body;
+        private final int hash;
+
+        Key(Object command, Object body) {
+            this.command = command;
+            this.body = body;
+            hash = 31 * System.identityHashCode(command) + Objects.hashCode(body);
+        }
+
+        public boolean equals(Object object) {
+            if(!(object instanceof Key)) return false;
+            Key other = (Key) object;
+            return command == other.command && Objects.equals(body, other.body);
+        }
+
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
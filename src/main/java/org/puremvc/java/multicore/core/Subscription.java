@@ -0,0 +1,43 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import org.puremvc.java.multicore.interfaces.IObserver;
+
+/**
+ * Registro inmutable de un IObserver en la View.
+ *
+ * Asocia el IObserver con el tipo de INotification que le interesa
+ * (un tipo null significa cualquier tipo), con su prioridad de despacho,
+ * con si debe ejecutarse en el hilo que envía la notificación y con si
+ * hace E/S bloqueante.
+ */
+final class Subscription {
+
+    final IObserver observer;
+
+    final String type;
+
+    final int priority;
+
+    final boolean inline;
+
+    final boolean blocking;
+
+    Subscription(IObserver observer, String type, int priority, boolean inline) {
+        this.observer = observer;
+        this.type = type;
+        this.priority = priority;
+        this.inline = inline;
+        this.blocking = observer.isBlocking();
+    }
+
+    boolean compareNotifyContext(Object notifyContext) {
+        return observer.compareNotifyContext(notifyContext);
+    }
+}
@@ -7,15 +7,29 @@
 
 package org.puremvc.java.multicore.core;
 
+import org.puremvc.java.multicore.interfaces.BackpressurePolicy;
+import org.puremvc.java.multicore.interfaces.BlockingPolicy;
+import org.puremvc.java.multicore.interfaces.IBatchObserver;
+import org.puremvc.java.multicore.interfaces.IBlocking;
+import org.puremvc.java.multicore.interfaces.IInterest;
 import org.puremvc.java.multicore.interfaces.IMediator;
 import org.puremvc.java.multicore.interfaces.INotification;
 import org.puremvc.java.multicore.interfaces.IObserver;
+import org.puremvc.java.multicore.interfaces.IScheduledObserver;
 import org.puremvc.java.multicore.interfaces.IView;
+import org.puremvc.java.multicore.patterns.observer.BatchObserver;
+import org.puremvc.java.multicore.patterns.observer.NotificationRegistry;
 import org.puremvc.java.multicore.patterns.observer.Observer;
+import org.puremvc.java.multicore.patterns.observer.QueueStats;
+import org.puremvc.java.multicore.patterns.observer.RateLimit;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 
 /**
@@ -44,9 +58,58 @@ public class View implements IView {
     // Asignación de nombres de mediadores a instancias de mediadores
     protected ConcurrentMap<String, IMediator> mediatorMap;
 
-    // Asignación de nombres de notificación a listas de observadores
+    /**
+     * Asignación de nombres de notificación a sus IObservers.
+     *
+     * @deprecated la View despacha desde observerTable; este mapa solo refleja
+     * los IObservers registrados por nombre exacto, para las subclases que lo
+     * leen, y los cambios hechos en él no afectan el despacho.
+     */
+    @Deprecated
     protected ConcurrentMap<String, List<IObserver>> observerMap;
 
+    // Arreglos inmutables de suscripciones indexados por identificador de notificación (copy-on-write)
+    volatile Subscription[][] observerTable;
+
+    // Suscripciones con comodines ('order.*', 'order.**')
+    NotificationTrie patternTrie;
+
+    // Observadores resueltos (exactos, por comodín y por tipo) indexados por identificador, invalidada en cada registro
+    volatile AtomicReferenceArray<Resolution> resolvedCache;
+
+    // Observadores resueltos de los nombres sin identificador, que solo coinciden con patrones; invalidada junto con resolvedCache
+    volatile ConcurrentMap<String, Resolution> patternCache;
+
+    // Executor para el despacho asíncrono; null ejecuta todo en el hilo del emisor
+    protected volatile Executor executor;
+
+    // Executor de hilos virtuales para los observadores bloqueantes; null si el modo no está activo
+    protected volatile Executor blockingExecutor;
+
+    // Políticas para los observadores bloqueantes indexadas por identificador de notificación (copy-on-write)
+    volatile BlockingPolicy[] policyTable;
+
+    // Bucle de eventos que confina el despacho a un solo hilo; null si el modo actor no está activo
+    volatile EventLoop eventLoop;
+
+    // Límite de la cola del bucle de eventos para todo el Core; null sin límite
+    volatile QueueLimit coreQueueLimit;
+
+    // Límites de la cola del bucle de eventos indexados por identificador de notificación (copy-on-write)
+    volatile QueueLimit[] queueLimitTable;
+
+    // Si las notificaciones enviadas durante un despacho se encolan en lugar de despacharse en línea
+    volatile boolean deferredDispatch;
+
+    // Cola de notificaciones diferidas del despacho en curso en cada hilo; null fuera de un despacho
+    final ThreadLocal<Deque<INotification>> dispatchQueue = new ThreadLocal<>();
+
+    // Si notifyObservers(INotification) es el de View; una subclase que lo anula no admite el envío directo
+    private final boolean directDispatch;
+
+    // Notificaciones pendientes en modo de conflación y sus contadores
+    final Conflator conflator = new Conflator();
+
     // El mapa de instancias Multiton de View
     protected static Map<String, IView> instanceMap = new HashMap<>();
 
@@ -71,6 +134,13 @@ public class View implements IView {
         instanceMap.put(key, this);
         mediatorMap = new ConcurrentHashMap<>();
         observerMap = new ConcurrentHashMap<>();
+        observerTable = new Subscription[0][];
+        patternTrie = new NotificationTrie();
+        resolvedCache = new AtomicReferenceArray<>(0);
+        patternCache = new ConcurrentHashMap<>();
+        policyTable = new BlockingPolicy[0];
+        queueLimitTable = new QueueLimit[0];
+        directDispatch = declaresNotifyObservers(getClass());
         initializeView();
     }
 
@@ -106,39 +176,857 @@ public class View implements IView {
      * Registra un IObserver para recibir notificaciones
      * de INotifications con un nombre específico.
      *
+     * El nombre puede ser un patrón jerárquico: '*' acepta exactamente un
+     * segmento ({@code order.*}) y '**' como último segmento acepta uno o más
+     * ({@code order.**}). Cada nombre concreto se resuelve una sola vez contra
+     * los patrones y el resultado queda en caché hasta el próximo registro.
+     *
      * @param notificationName el nombre de las INotifications a notificar a este IObserver
      * @param observer el IObserver a registrar
      */
 
     public void registerObserver(String notificationName, IObserver observer) {
-        if(observerMap.get(notificationName) != null) {
-            observerMap.get(notificationName).add(observer);
+        registerObserver(notificationName, null, observer);
+    }
+
+    /**
+     * Registra un IObserver para recibir notificaciones
+     * de INotifications con un nombre y un tipo específicos.
+     *
+     * El IObserver solo es notificado de las INotifications cuyo getType()
+     * es igual a type; si type es null, es notificado de cualquier tipo.
+     *
+     * @param notificationName el nombre (o patrón) de las INotifications a notificar a este IObserver
+     * @param type el tipo de las INotifications a notificar, o null para cualquier tipo
+     * @param observer el IObserver a registrar
+     */
+
+    public void registerObserver(String notificationName, String type, IObserver observer) {
+        subscribe(notificationName, new Subscription(observer, type, observer.getPriority(), observer.isInline()));
+    }
+
+    /**
+     * Registra un IObserver envuelto en un operador debounce o throttle.
+     *
+     * El operador conserva el contexto de notificación del IObserver,
+     * así que se elimina con removeObserver como cualquier otro. Las
+     * entregas diferidas de debounce pasan por el bucle de eventos o el
+     * Executor de este Core, y se descartan si el IObserver ya fue eliminado.
+     *
+     * @param notificationName el nombre (o patrón) de las INotifications a notificar a este IObserver
+     * @param observer el IObserver a registrar
+     * @param rateLimit el operador que limita la frecuencia de notificación
+     */
+
+    public void registerObserver(String notificationName, IObserver observer, RateLimit rateLimit) {
+        registerObserver(notificationName, null, rateLimit.apply(observer));
+    }
+
+    /**
+     * Registra un IObserver para recibir notificaciones
+     * de INotifications con un identificador específico.
+     *
+     * @param notificationId el identificador de las INotifications a notificar a este IObserver
+     * @param observer el IObserver a registrar
+     */
+
+    public void registerObserver(int notificationId, IObserver observer) {
+        registerObserver(notificationId, null, observer);
+    }
+
+    /**
+     * Registra un IObserver para recibir notificaciones
+     * de INotifications con un identificador y un tipo específicos.
+     *
+     * @param notificationId el identificador de las INotifications a notificar a este IObserver
+     * @param type el tipo de las INotifications a notificar, o null para cualquier tipo
+     * @param observer el IObserver a registrar
+     */
+
+    public void registerObserver(int notificationId, String type, IObserver observer) {
+        subscribe(notificationId, new Subscription(observer, type, observer.getPriority(), observer.isInline()));
+    }
+
+    /**
+     * Agrega una suscripción por nombre o patrón.
+     *
+     * @param notificationName el nombre (o patrón) de las INotifications
+     * @param subscription la suscripción a agregar
+     */
+
+    void subscribe(String notificationName, Subscription subscription) {
+        if(NotificationTrie.isPattern(notificationName)) {
+            synchronized(this) {
+                patternTrie.add(notificationName, subscription);
+                attach(subscription);
+                invalidateResolvedCache();
+            }
         } else {
-            observerMap.put(notificationName, new ArrayList<IObserver>(Arrays.asList(observer)));
+            subscribe(NotificationRegistry.idOf(notificationName), subscription);
         }
     }
 
+    /**
+     * Agrega una suscripción por identificador.
+     *
+     * La tabla de suscripciones es copy-on-write: cada registro publica
+     * atómicamente una nueva tabla con un nuevo arreglo inmutable.
+     *
+     * @param notificationId el identificador de las INotifications
+     * @param subscription la suscripción a agregar
+     */
+
+    synchronized void subscribe(int notificationId, Subscription subscription) {
+        Subscription[][] table = observerTable;
+        table = Arrays.copyOf(table, Math.max(table.length, notificationId + 1));
+        Subscription[] subscriptions = table[notificationId];
+        if(subscriptions == null) {
+            table[notificationId] = new Subscription[] { subscription };
+        } else {
+            Subscription[] copy = Arrays.copyOf(subscriptions, subscriptions.length + 1);
+            copy[subscriptions.length] = subscription;
+            table[notificationId] = copy;
+        }
+        observerTable = table;
+        mirrorObservers(notificationId, table[notificationId]);
+        attach(subscription);
+        invalidateResolvedCache();
+    }
+
+    // un IScheduledObserver entrega por el Executor de despacho vigente al momento de la entrega
+    private void attach(Subscription subscription) {
+        if(subscription.observer instanceof IScheduledObserver) {
+            ((IScheduledObserver) subscription.observer).attach(this::dispatchScheduled);
+        }
+    }
+
+    private static void detach(Subscription subscription) {
+        if(subscription != null && subscription.observer instanceof IScheduledObserver) {
+            ((IScheduledObserver) subscription.observer).detach();
+        }
+    }
+
+    /**
+     * Ejecuta una entrega diferida de un IScheduledObserver en el bucle de
+     * eventos o el Executor de este Core, o en el hilo que llama si no hay ninguno.
+     *
+     * @param delivery la entrega
+     */
+
+    private void dispatchScheduled(Runnable delivery) {
+        Executor dispatcher = getDispatchExecutor();
+        if(dispatcher == null) {
+            delivery.run();
+        } else {
+            dispatcher.execute(delivery);
+        }
+    }
+
+    // refleja en observerMap las suscripciones de un identificador
+    private void mirrorObservers(int notificationId, Subscription[] subscriptions) {
+        String notificationName = NotificationRegistry.nameOf(notificationId);
+        if(subscriptions == null) {
+            observerMap.remove(notificationName);
+            return;
+        }
+        List<IObserver> observers = new ArrayList<>(subscriptions.length);
+        for(Subscription subscription : subscriptions) observers.add(subscription.observer);
+        observerMap.put(notificationName, observers);
+    }
+
     /**
      * Notifica a los IObservers de una INotification específica.
      *
      * Todos los IObservers previamente adjuntos para esta INotification
-     * son notificados en el orden en que fueron registrados.
+     * son notificados de mayor a menor prioridad y, a igual prioridad, en el
+     * orden en que fueron registrados. Los IObservers registrados para un tipo
+     * solo son notificados si coincide con getType(). Si un IObserver llama a
+     * stopPropagation, los restantes no son notificados.
+     *
+     * Se itera sobre la instantánea publicada en el momento del envío,
+     * por lo que los cambios durante el bucle no afectan a esta notificación.
+     *
+     * Con el despacho diferido activo, una INotification enviada mientras
+     * se despacha otra en el mismo hilo se encola y se despacha al terminar.
+     *
+     * Con el modo actor activo, un envío desde otro hilo se encola en el bucle
+     * de eventos, respetando el límite de cola del nombre o del Core.
      *
      * @param notification la INotification a notificar a los IObservers.
      */
 
     public void notifyObservers(INotification notification) {
-        if(observerMap.get(notification.getName()) != null) {
+        EventLoop loop = eventLoop;
+        if(loop != null && !loop.inEventLoop()) {
+            QueueLimit limit = queueLimit(NotificationRegistry.find(notification));
+            if(limit == null) {
+                loop.execute(() -> notifyObservers(notification));
+            } else {
+                limit.offer(notification, loop, this::notifyInline);
+            }
+            return;
+        }
+        notifyInline(notification);
+    }
 
-            // Obtener referencia a la lista de observers de este nombre de notificación
-            List<IObserver> observers_ref = observerMap.get(notification.getName());
+    /**
+     * Despacha una INotification en el hilo actual, encolándola si el despacho diferido está activo.
+     *
+     * @param notification la INotification a notificar a los IObservers.
+     */
+
+    private void notifyInline(INotification notification) {
+        if(!deferredDispatch) {
+            dispatch(notification);
+            return;
+        }
+        Deque<INotification> queue = dispatchQueue.get();
+        if(queue != null) {
+            queue.add(notification);
+            return;
+        }
+        queue = new ArrayDeque<>();
+        dispatchQueue.set(queue);
+        try {
+            for(INotification next = notification; next != null; next = queue.poll()) {
+                dispatch(next);
+            }
+        } finally {
+            dispatchQueue.remove();
+        }
+    }
+
+    /**
+     * Despacha una INotification a sus IObservers en el hilo actual.
+     *
+     * @param notification la INotification a notificar a los IObservers.
+     */
+
+    private void dispatch(INotification notification) {
+        int notificationId = NotificationRegistry.find(notification);
+        Executor blocking = blockingExecutor;
+        List<CompletableFuture<Void>> started = null;
+        for(Subscription subscription : resolve(notificationId, notification.getName()).subscriptionsFor(notification.getType())) {
+            if(subscription.blocking && blocking != null) {
+                if(started == null) started = new ArrayList<>();
+                started.add(CompletableFuture.runAsync(() -> subscription.observer.notifyObserver(notification), blocking));
+                continue;
+            }
+            subscription.observer.notifyObserver(notification);
+            if(notification.isPropagationStopped()) break;
+        }
+        if(started != null) awaitOrReport(notificationId, started);
+    }
+
+    /**
+     * Notifica a los IObservers una colección de INotifications.
+     *
+     * Las notificaciones se agrupan por nombre, en el orden de la primera
+     * aparición de cada nombre, y cada grupo se despacha recorriendo los
+     * IObservers una sola vez: un IBatchObserver recibe en una sola llamada
+     * las notificaciones del grupo que le corresponden (según su tipo), y los
+     * demás IObservers las reciben una a una. Una notificación cuya propagación
+     * se detuvo no llega a los IObservers siguientes.
+     *
+     * Con el modo actor activo, un envío desde otro hilo encola cada grupo en
+     * el bucle de eventos, respetando el límite de cola del nombre o del Core;
+     * cada grupo cuenta como una entrada de la cola.
+     *
+     * @param notifications las INotifications a notificar a los IObservers.
+     */
+
+    public void notifyObservers(Collection<? extends INotification> notifications) {
+        EventLoop loop = eventLoop;
+        Map<String, List<INotification>> groups = new LinkedHashMap<>();
+        for(INotification notification : notifications) {
+            groups.computeIfAbsent(notification.getName(), name -> new ArrayList<>()).add(notification);
+        }
+        if(loop != null && !loop.inEventLoop()) {
+            for(List<INotification> group : groups.values()) {
+                QueueLimit limit = queueLimit(NotificationRegistry.find(group.get(0)));
+                if(limit == null) {
+                    loop.execute(() -> notifyObservers(group));
+                } else {
+                    limit.offer(group, group.get(0).getName(), loop, this::notifyObservers, dropped -> {});
+                }
+            }
+            return;
+        }
+        for(List<INotification> group : groups.values()) {
+            notifyBatch(group);
+        }
+    }
 
-            // Copiar observers a array de trabajo para evitar cambios durante el bucle
-            List<IObserver> observers = new ArrayList<>(observers_ref);
+    /**
+     * Despacha un grupo de INotifications de un mismo nombre.
+     *
+     * @param notifications las INotifications del grupo, al menos una
+     */
 
-            // Notificar a los Observers
-            observers.forEach(observer -> observer.notifyObserver(notification));
+    private void notifyBatch(List<INotification> notifications) {
+        INotification first = notifications.get(0);
+        int notificationId = NotificationRegistry.find(first);
+        Executor blocking = blockingExecutor;
+        List<CompletableFuture<Void>> started = null;
+        List<INotification> pending = Collections.unmodifiableList(notifications);
+        for(Subscription subscription : resolve(notificationId, first.getName()).all) {
+            List<INotification> batch = subscription.type == null ? pending : ofType(pending, subscription.type);
+            if(batch.isEmpty()) continue;
+            if(subscription.blocking && blocking != null) {
+                if(started == null) started = new ArrayList<>();
+                started.add(CompletableFuture.runAsync(() -> deliver(subscription.observer, batch), blocking));
+                continue;
+            }
+            deliver(subscription.observer, batch);
+            pending = withoutStopped(pending);
+            if(pending.isEmpty()) break;
         }
+        if(started != null) awaitOrReport(notificationId, started);
+    }
+
+    /**
+     * Espera a los actores bloqueantes iniciados por un despacho o, con
+     * FIRE_AND_FORGET, entrega sus fallas al UncaughtExceptionHandler del
+     * hilo en que terminan, porque ya nadie puede recibirlas.
+     *
+     * @param notificationId el identificador de la notificación
+     * @param started las ejecuciones iniciadas
+     */
+
+    private void awaitOrReport(int notificationId, List<CompletableFuture<Void>> started) {
+        if(getBlockingPolicy(notificationId) == BlockingPolicy.JOIN) {
+            await(CompletableFuture.allOf(started.toArray(new CompletableFuture<?>[0])));
+            return;
+        }
+        for(CompletableFuture<Void> future : started) {
+            future.whenComplete((result, error) -> {
+                if(error == null) return;
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            });
+        }
+    }
+
+    private static void deliver(IObserver observer, List<INotification> notifications) {
+        if(observer instanceof IBatchObserver) {
+            ((IBatchObserver) observer).notifyObserver(notifications);
+            return;
+        }
+        for(INotification notification : notifications) {
+            observer.notifyObserver(notification);
+        }
+    }
+
+    private static List<INotification> ofType(List<INotification> notifications, String type) {
+        List<INotification> result = new ArrayList<>();
+        for(INotification notification : notifications) {
+            if(type.equals(notification.getType())) result.add(notification);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static List<INotification> withoutStopped(List<INotification> notifications) {
+        List<INotification> result = null;
+        for(int i = 0; i < notifications.size(); i++) {
+            INotification notification = notifications.get(i);
+            if(notification.isPropagationStopped()) {
+                if(result == null) result = new ArrayList<>(notifications.subList(0, i));
+            } else if(result != null) {
+                result.add(notification);
+            }
+        }
+        return result == null ? notifications : Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Notifica a los IObservers una INotification en modo de conflación.
+     *
+     * El despacho se programa en el bucle de eventos del Core o, si no está
+     * activo, en su Executor. Mientras está pendiente, otra INotification con
+     * el mismo nombre y la misma clave de conflación la reemplaza, de modo que
+     * los IObservers solo reciben el valor más reciente. Sin bucle de eventos
+     * ni Executor, la INotification se despacha de inmediato. Un envío desde
+     * otro hilo en modo actor respeta el límite de cola del nombre o del Core.
+     *
+     * @param notification la INotification a notificar a los IObservers.
+     * @param conflationKey la clave de la serie, por ejemplo el identificador de un instrumento
+     */
+
+    public void notifyObserversConflated(INotification notification, Object conflationKey) {
+        EventLoop loop = eventLoop;
+        if(loop != null) {
+            QueueLimit limit = loop.inEventLoop() ? null : queueLimit(NotificationRegistry.find(notification));
+            conflator.submit(notification, conflationKey, loop, limit, this::notifyObservers);
+            return;
+        }
+        Executor executor = this.executor;
+        if(executor == null) {
+            notifyObservers(notification);
+            return;
+        }
+        conflator.submit(notification, conflationKey, executor, null, this::notifyObservers);
+    }
+
+    /**
+     * Obtiene la cantidad de INotifications reemplazadas en modo de conflación.
+     *
+     * @return el total para todos los nombres
+     */
+
+    public long getConflatedCount() {
+        return conflator.getConflatedCount();
+    }
+
+    /**
+     * Obtiene la cantidad de INotifications reemplazadas en modo de conflación.
+     *
+     * @param notificationName el nombre de la notificación
+     * @return el total para ese nombre
+     */
+
+    public long getConflatedCount(String notificationName) {
+        return conflator.getConflatedCount(notificationName);
+    }
+
+    /**
+     * Notifica a los IObservers de una INotification de forma asíncrona.
+     *
+     * Los IObservers se recorren en el mismo orden que en notifyObservers.
+     * Los que son inline se ejecutan en el hilo que llama, en ese orden, y
+     * pueden detener la propagación; los demás se envían al Executor del Core
+     * y se ejecutan en paralelo. Sin Executor, todos se ejecutan en el hilo que llama.
+     *
+     * @param notification la INotification a notificar a los IObservers.
+     * @return un CompletableFuture que se completa cuando todos los IObservers terminan,
+     *         o excepcionalmente con el primer error
+     */
+
+    public CompletableFuture<Void> notifyObserversAsync(INotification notification) {
+        EventLoop loop = eventLoop;
+        if(loop != null && !loop.inEventLoop()) {
+            return CompletableFuture.supplyAsync(() -> notifyObserversAsync(notification), loop).thenCompose(Function.identity());
+        }
+        Executor executor = this.executor;
+        List<CompletableFuture<Void>> pending = null;
+        try {
+            Executor blocking = blockingExecutor;
+            Resolution resolution = resolve(NotificationRegistry.find(notification), notification.getName());
+            for(Subscription subscription : resolution.subscriptionsFor(notification.getType())) {
+                IObserver observer = subscription.observer;
+                if(subscription.blocking && blocking != null) {
+                    if(pending == null) pending = new ArrayList<>();
+                    pending.add(CompletableFuture.runAsync(() -> observer.notifyObserver(notification), blocking));
+                } else if(subscription.inline || executor == null) {
+                    observer.notifyObserver(notification);
+                    if(notification.isPropagationStopped()) break;
+                } else {
+                    if(pending == null) pending = new ArrayList<>();
+                    pending.add(CompletableFuture.runAsync(() -> observer.notifyObserver(notification), executor));
+                }
+            }
+        } catch(RuntimeException | Error error) {
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(error);
+            if(pending == null) return failed;
+            pending.add(failed);
+        }
+        if(pending == null) return CompletableFuture.completedFuture(null);
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Establece el Executor para el despacho asíncrono de este Core.
+     *
+     * @param executor el Executor, o null para ejecutar todo en el hilo del emisor
+     */
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Obtiene el Executor para el despacho asíncrono de este Core.
+     *
+     * @return el Executor, o null si no hay uno configurado
+     */
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Obtiene el Executor en el que este Core ejecuta el trabajo que no corre
+     * en el hilo del emisor.
+     *
+     * Con el modo actor activo es el bucle de eventos, de modo que ese
+     * trabajo queda confinado al hilo del Core; si no, es el Executor del Core.
+     *
+     * @return el Executor, o null si todo se ejecuta en el hilo del emisor
+     */
+
+    public Executor getDispatchExecutor() {
+        EventLoop loop = eventLoop;
+        return loop != null ? loop : executor;
+    }
+
+    /**
+     * Activa o desactiva el modo actor para este Core.
+     *
+     * Con el modo activo, toda notificación se despacha en un único hilo
+     * propio del Core. Un envío desde otro hilo se encola en la bandeja de
+     * entrada del bucle y retorna de inmediato; un envío desde el propio
+     * hilo del bucle (por ejemplo, desde un ICommand o un IMediator) se
+     * despacha en línea. Así los IMediators, ICommands e IProxies del Core
+     * solo son usados por un hilo y los productores de otros hilos no
+     * compiten entre sí.
+     *
+     * Al desactivar el modo, el bucle termina de despachar lo ya encolado.
+     *
+     * @param enabled si se activa el modo
+     */
+
+    public synchronized void setEventLoopMode(boolean enabled) {
+        if(enabled == (eventLoop != null)) return;
+        if(enabled) {
+            eventLoop = new EventLoop("PureMVC-" + multitonKey);
+        } else {
+            eventLoop.shutdown();
+            eventLoop = null;
+        }
+    }
+
+    /**
+     * Indica si el modo actor está activo.
+     *
+     * @return si el modo está activo
+     */
+
+    public boolean isEventLoopMode() {
+        return eventLoop != null;
+    }
+
+    /**
+     * Indica si el hilo que llama es el hilo del bucle de eventos de este Core.
+     *
+     * @return si el modo está activo y el hilo actual es el del bucle
+     */
+
+    public boolean inEventLoop() {
+        EventLoop loop = eventLoop;
+        return loop != null && loop.inEventLoop();
+    }
+
+    /**
+     * Acota la cola del bucle de eventos para todo el Core.
+     *
+     * Cuando hay tantas notificaciones encoladas (y aún no despachadas) como
+     * la capacidad, un nuevo envío desde otro hilo aplica la política: esperar,
+     * descartar la más antigua o la nueva, despacharla en el hilo del emisor o
+     * lanzar RejectedExecutionException. Un límite por nombre tiene precedencia.
+     * Solo aplica con el modo actor activo; los envíos desde el hilo del bucle
+     * se despachan en línea y nunca se encolan.
+     *
+     * @param capacity la cantidad máxima de notificaciones encoladas
+     * @param policy la política cuando la cola está llena
+     */
+
+    public void setQueueLimit(int capacity, BackpressurePolicy policy) {
+        coreQueueLimit = new QueueLimit(capacity, policy);
+    }
+
+    /**
+     * Acota la cola del bucle de eventos para un nombre de notificación.
+     *
+     * Las notificaciones con ese nombre se cuentan por separado del resto del Core.
+     *
+     * @param notificationName el nombre de la notificación
+     * @param capacity la cantidad máxima de notificaciones encoladas con ese nombre
+     * @param policy la política cuando la cola está llena
+     */
+
+    public synchronized void setQueueLimit(String notificationName, int capacity, BackpressurePolicy policy) {
+        int notificationId = NotificationRegistry.idOf(notificationName);
+        QueueLimit[] table = Arrays.copyOf(queueLimitTable, Math.max(queueLimitTable.length, notificationId + 1));
+        table[notificationId] = new QueueLimit(capacity, policy);
+        queueLimitTable = table;
+    }
+
+    /**
+     * Obtiene los contadores de la cola acotada de todo el Core.
+     *
+     * @return los contadores, o null si el Core no tiene límite de cola
+     */
+
+    public QueueStats getQueueStats() {
+        QueueLimit limit = coreQueueLimit;
+        return limit != null ? limit.stats() : null;
+    }
+
+    /**
+     * Obtiene los contadores de la cola acotada de un nombre de notificación.
+     *
+     * @param notificationName el nombre de la notificación
+     * @return los contadores, o null si el nombre no tiene límite de cola propio
+     */
+
+    public QueueStats getQueueStats(String notificationName) {
+        int notificationId = NotificationRegistry.find(notificationName);
+        QueueLimit[] table = queueLimitTable;
+        if(notificationId == NotificationRegistry.UNKNOWN || notificationId >= table.length || table[notificationId] == null) return null;
+        return table[notificationId].stats();
+    }
+
+    private QueueLimit queueLimit(int notificationId) {
+        QueueLimit[] table = queueLimitTable;
+        QueueLimit limit = notificationId >= 0 && notificationId < table.length ? table[notificationId] : null;
+        return limit != null ? limit : coreQueueLimit;
+    }
+
+    /**
+     * Activa o desactiva el despacho diferido (en anchura) para este Core.
+     *
+     * Con el modo activo, una INotification enviada desde un IObserver, un
+     * IMediator o un ICommand mientras se despacha otra en el mismo hilo no
+     * se despacha en línea: se encola y se despacha cuando termina el despacho
+     * en curso. Las cascadas de notificaciones se recorren así en un bucle,
+     * con profundidad de pila constante, en lugar de anidarse. Si un IObserver
+     * lanza una excepción, las notificaciones aún encoladas se descartan.
+     *
+     * @param enabled si se activa el modo
+     */
+
+    public void setDeferredDispatch(boolean enabled) {
+        deferredDispatch = enabled;
+    }
+
+    /**
+     * Indica si el despacho diferido está activo.
+     *
+     * @return si el modo está activo
+     */
+
+    public boolean isDeferredDispatch() {
+        return deferredDispatch;
+    }
+
+    /**
+     * Obtiene el único IObserver de una notificación cuando notificarlo
+     * directamente equivale a despacharla con notifyObservers.
+     *
+     * Es así si la notificación tiene un solo IObserver, de cualquier tipo y no
+     * bloqueante, el despacho diferido no está activo y el modo actor no está
+     * activo o se llama desde el hilo del bucle. Si una subclase anula
+     * notifyObservers(INotification), siempre devuelve null para que la
+     * notificación pase por ese método.
+     *
+     * @param notificationId el identificador de la notificación
+     * @return el IObserver, o null si la notificación debe despacharse con notifyObservers
+     */
+
+    public IObserver getDirectObserver(int notificationId) {
+        if(!directDispatch || deferredDispatch || notificationId == NotificationRegistry.UNKNOWN) return null;
+        EventLoop loop = eventLoop;
+        if(loop != null && !loop.inEventLoop()) return null;
+        Subscription sole = resolve(notificationId).sole;
+        return sole != null ? sole.observer : null;
+    }
+
+    // si la clase hereda notifyObservers(INotification) de View sin anularlo
+    private static boolean declaresNotifyObservers(Class<?> viewClass) {
+        try {
+            return viewClass.getMethod("notifyObservers", INotification.class).getDeclaringClass() == View.class;
+        } catch(NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Activa o desactiva el despacho en hilos virtuales para este Core.
+     *
+     * Con el modo activo, los IObservers bloqueantes (ver IObserver.isBlocking)
+     * y los IMediators e ICommands que implementan IBlocking se ejecutan en un
+     * hilo virtual por tarea. Según la BlockingPolicy de la notificación, el envío
+     * espera a que terminen o retorna de inmediato. Requiere Java 21; en versiones
+     * anteriores el modo no se activa y todo se ejecuta en el hilo del emisor.
+     *
+     * @param enabled si se activa el modo
+     * @return si el modo quedó activo
+     */
+
+    public boolean setVirtualThreadDispatch(boolean enabled) {
+        blockingExecutor = enabled ? VirtualThreads.executor() : null;
+        return blockingExecutor != null;
+    }
+
+    /**
+     * Indica si el despacho en hilos virtuales está activo.
+     *
+     * @return si el modo está activo
+     */
+
+    public boolean isVirtualThreadDispatch() {
+        return blockingExecutor != null;
+    }
+
+    /**
+     * Obtiene el Executor para los actores bloqueantes de este Core.
+     *
+     * @return el Executor de hilos virtuales, o null si el modo no está activo
+     */
+
+    public Executor getBlockingExecutor() {
+        return blockingExecutor;
+    }
+
+    /**
+     * Establece la política para los actores bloqueantes de una notificación.
+     *
+     * @param notificationName el nombre de la notificación
+     * @param policy la política, JOIN por defecto
+     */
+
+    public void setBlockingPolicy(String notificationName, BlockingPolicy policy) {
+        setBlockingPolicy(NotificationRegistry.idOf(notificationName), policy);
+    }
+
+    /**
+     * Establece la política para los actores bloqueantes de una notificación.
+     *
+     * @param notificationId el identificador de la notificación
+     * @param policy la política, JOIN por defecto
+     */
+
+    public synchronized void setBlockingPolicy(int notificationId, BlockingPolicy policy) {
+        BlockingPolicy[] table = Arrays.copyOf(policyTable, Math.max(policyTable.length, notificationId + 1));
+        table[notificationId] = policy;
+        policyTable = table;
+    }
+
+    /**
+     * Obtiene la política para los actores bloqueantes de una notificación.
+     *
+     * @param notificationId el identificador de la notificación
+     * @return la política configurada, o JOIN si no hay una
+     */
+
+    public BlockingPolicy getBlockingPolicy(int notificationId) {
+        BlockingPolicy[] table = policyTable;
+        BlockingPolicy policy = notificationId >= 0 && notificationId < table.length ? table[notificationId] : null;
+        return policy != null ? policy : BlockingPolicy.JOIN;
+    }
+
+    /**
+     * Espera a que termine un CompletableFuture y propaga su error
+     * sin envolverlo en CompletionException.
+     *
+     * @param future el CompletableFuture a esperar
+     */
+
+    static void await(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch(CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if(cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if(cause instanceof Error) throw (Error) cause;
+            throw exception;
+        }
+    }
+
+    /**
+     * Obtiene la resolución en caché de un identificador de notificación,
+     * resolviéndolo si es necesario.
+     *
+     * @param notificationId el identificador de la notificación
+     * @return la resolución, nunca null
+     */
+
+    Resolution resolve(int notificationId) {
+        AtomicReferenceArray<Resolution> cache = resolvedCache;
+        Resolution resolution = notificationId < cache.length() ? cache.get(notificationId) : null;
+        return resolution != null ? resolution : resolveObservers(notificationId);
+    }
+
+    /**
+     * Obtiene la resolución de una notificación por identificador o, si su
+     * nombre no tiene identificador, por nombre.
+     *
+     * @param notificationId el identificador, o NotificationRegistry.UNKNOWN
+     * @param notificationName el nombre de la notificación
+     * @return la resolución, nunca null
+     */
+
+    Resolution resolve(int notificationId, String notificationName) {
+        if(notificationId != NotificationRegistry.UNKNOWN) return resolve(notificationId);
+        // un nombre sin identificador solo puede coincidir con patrones
+        if(patternTrie.isEmpty()) return Resolution.EMPTY;
+        Resolution resolution = patternCache.get(notificationName);
+        return resolution != null ? resolution : resolvePattern(notificationName);
+    }
+
+    /**
+     * Resuelve los IObservers de un nombre sin identificador, que solo puede
+     * coincidir con patrones. El resultado se guarda por nombre hasta el
+     * próximo cambio en los registros.
+     *
+     * @param notificationName el nombre de la notificación
+     * @return la resolución, nunca null
+     */
+
+    synchronized Resolution resolvePattern(String notificationName) {
+        return patternCache.computeIfAbsent(notificationName, name -> {
+            List<Subscription> matched = new ArrayList<>();
+            patternTrie.match(name, matched);
+            return Resolution.of(matched);
+        });
+    }
+
+    /**
+     * Resuelve los IObservers de un identificador de notificación concreto:
+     * los registrados con el nombre exacto y los de los patrones que lo aceptan,
+     * ordenados por prioridad (a igual prioridad, primero los exactos en orden
+     * de registro) y agrupados por tipo.
+     *
+     * El resultado se guarda en la caché de resolución, que se descarta
+     * con cada cambio en los registros.
+     *
+     * @param notificationId el identificador de la notificación
+     * @return la resolución, nunca null
+     */
+
+    synchronized Resolution resolveObservers(int notificationId) {
+        AtomicReferenceArray<Resolution> cache = resolvedCache;
+        if(notificationId >= cache.length()) {
+            AtomicReferenceArray<Resolution> grown = new AtomicReferenceArray<>(Math.min(Math.max(notificationId + 1, 2 * cache.length()), NotificationRegistry.size()));
+            for(int i = 0; i < cache.length(); i++) grown.set(i, cache.get(i));
+            cache = grown;
+            resolvedCache = cache;
+        }
+        Resolution resolution = cache.get(notificationId);
+        if(resolution != null) return resolution;
+
+        Subscription[][] table = observerTable;
+        List<Subscription> matched = new ArrayList<>();
+        if(notificationId < table.length && table[notificationId] != null) {
+            matched.addAll(Arrays.asList(table[notificationId]));
+        }
+        patternTrie.match(NotificationRegistry.nameOf(notificationId), matched);
+        resolution = Resolution.of(matched);
+
+        cache.set(notificationId, resolution);
+        return resolution;
+    }
+
+    /**
+     * Descarta todas las resoluciones en caché, por identificador y por nombre.
+     * Se llama con el bloqueo de la View tomado, después de cada cambio en los registros.
+     * La nueva caché cubre los identificadores con suscripciones exactas en
+     * esta View y crece al resolver otros.
+     */
+
+    void invalidateResolvedCache() {
+        resolvedCache = new AtomicReferenceArray<>(observerTable.length);
+        patternCache = new ConcurrentHashMap<>();
     }
 
     /**
@@ -149,17 +1037,49 @@ public class View implements IView {
      */
 
     public void removeObserver(String notificationName, Object notifyContext) {
-        List<IObserver> observers = observerMap.get(notificationName);
-
-        for(int i=0; i < observers.size(); i++) {
-            if(observers.get(i).compareNotifyContext(notifyContext)) {
-                observers.remove(i);
-                break;
+        if(NotificationTrie.isPattern(notificationName)) {
+            synchronized(this) {
+                Subscription removed = patternTrie.remove(notificationName, notifyContext);
+                if(removed != null) {
+                    detach(removed);
+                    invalidateResolvedCache();
+                }
             }
+            return;
         }
+        int id = NotificationRegistry.find(notificationName);
+        if(id != NotificationRegistry.UNKNOWN) removeObserver(id, notifyContext);
+    }
 
-        if(observers.size() == 0) {
-            observerMap.remove(notificationName);
+    /**
+     * Elimina un observer de una lista de observadores por notifyContext.
+     *
+     * @param notificationId de qué lista de observers eliminar
+     * @param notifyContext eliminar el observer con este notifyContext
+     */
+
+    public synchronized void removeObserver(int notificationId, Object notifyContext) {
+        Subscription[][] table = observerTable;
+        if(notificationId >= table.length || table[notificationId] == null) return;
+
+        Subscription[] subscriptions = table[notificationId];
+        for(int i=0; i < subscriptions.length; i++) {
+            if(subscriptions[i].compareNotifyContext(notifyContext)) {
+                table = table.clone();
+                if(subscriptions.length == 1) {
+                    table[notificationId] = null;
+                } else {
+                    Subscription[] copy = new Subscription[subscriptions.length - 1];
+                    System.arraycopy(subscriptions, 0, copy, 0, i);
+                    System.arraycopy(subscriptions, i + 1, copy, i, subscriptions.length - i - 1);
+                    table[notificationId] = copy;
+                }
+                observerTable = table;
+                mirrorObservers(notificationId, table[notificationId]);
+                detach(subscriptions[i]);
+                invalidateResolvedCache();
+                break;
+            }
         }
     }
 
@@ -170,8 +1090,10 @@ public class View implements IView {
      * e interroga al IMediator por sus intereses en INotifications.
      *
      * Si el IMediator retorna nombres de INotifications, registra un Observer
-     * encapsulando el método handleNotification del IMediator
-     * como Observer para esas INotifications.
+     * encapsulando los métodos handleNotification y handleNotifications del IMediator
+     * como Observer para esas INotifications. Los IInterest retornados por
+     * listInterests registran el mismo Observer solo para su tipo, adaptado
+     * con IInterest.decorate.
      *
      * @param mediator referencia a la instancia IMediator
      */
@@ -183,11 +1105,16 @@ public class View implements IView {
         mediatorMap.put(mediator.getMediatorName(), mediator);
 
         String[] interests = mediator.listNotificationInterests();
-        if(interests.length > 0) {
-            IObserver observer = new Observer(mediator::handleNotification, mediator);
+        IInterest[] typedInterests = mediator.listInterests();
+        if(interests.length > 0 || typedInterests.length > 0) {
+            Observer observer = new BatchObserver(mediator::handleNotification, mediator::handleNotifications, mediator);
+            observer.setBlocking(mediator instanceof IBlocking);
             for(String interest: interests) {
                 registerObserver(interest, observer);
             }
+            for(IInterest interest: typedInterests) {
+                subscribe(interest.getName(), new Subscription(interest.decorate(observer), interest.getType(), interest.getPriority(), interest.isInline()));
+            }
         }
 
         mediator.onRegister();
@@ -222,6 +1149,9 @@ public class View implements IView {
             for(String interest: interests) {
                 removeObserver(interest, mediator);
             }
+            for(IInterest interest: mediator.listInterests()) {
+                removeObserver(interest.getName(), mediator);
+            }
 
             mediatorMap.remove(mediatorName);
             mediator.onRemove();
@@ -248,6 +1178,7 @@ public class View implements IView {
      */
 
     public synchronized static void removeView(String key) {
-        instanceMap.remove(key);
+        IView view = instanceMap.remove(key);
+        if(view != null) view.setEventLoopMode(false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Acceso a los hilos virtuales de la plataforma.
+ *
+ * Esta es la versión para Java 8, donde no existen hilos virtuales:
+ * no hay Executor y los actores bloqueantes se ejecutan en el hilo del emisor.
+ * El JAR multi-release incluye en META-INF/versions/21 la versión que
+ * crea un hilo virtual por tarea.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Obtiene el Executor compartido de un hilo virtual por tarea.
+     *
+     * @return el Executor, o null si la plataforma no tiene hilos virtuales
+     */
+    static Executor executor() {
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+/**
+ * Política de una cola de despacho acotada cuando está llena.
+ *
+ * @see org.puremvc.java.multicore.patterns.observer.QueueStats QueueStats
+ * @see IView#setQueueLimit(int, BackpressurePolicy) IView.setQueueLimit
+ */
+public enum BackpressurePolicy {
+
+    /**
+     * El emisor espera hasta que haya lugar en la cola.
+     */
+    BLOCK,
+
+    /**
+     * Se descarta la notificación más antigua de la cola para encolar la nueva.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Se descarta la notificación nueva.
+     */
+    DROP_NEWEST,
+
+    /**
+     * La notificación se despacha en el hilo del emisor, fuera del bucle de eventos.
+     */
+    CALLER_RUNS,
+
+    /**
+     * Se lanza RejectedExecutionException al emisor.
+     */
+    REJECT
+}
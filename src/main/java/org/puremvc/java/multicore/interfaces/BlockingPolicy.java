@@ -0,0 +1,29 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+/**
+ * Política para los observadores bloqueantes de una notificación
+ * cuando se ejecutan en hilos virtuales.
+ *
+ * @see IBlocking IBlocking
+ */
+public enum BlockingPolicy {
+
+    /**
+     * El envío espera a que terminen los observadores bloqueantes
+     * y propaga su primer error. Es la política por defecto.
+     */
+    JOIN,
+
+    /**
+     * El envío retorna sin esperar a los observadores bloqueantes;
+     * sus errores no llegan al emisor.
+     */
+    FIRE_AND_FORGET
+}
@@ -0,0 +1,41 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * La definición de interfaz para un comando PureMVC asíncrono.
+ *
+ * El IController llama a executeAsync en lugar de execute y sigue la
+ * CompletionStage devuelta: la cuenta como ejecución en curso de su
+ * INotification hasta que se completa, le aplica el tiempo límite
+ * configurado y puede cancelarla. Si la CompletionStage falla, el
+ * Controller lo informa con la notificación Controller.COMMAND_FAILED.
+ *
+ * @see IController#awaitQuiescence(long, java.util.concurrent.TimeUnit) IController.awaitQuiescence
+ */
+public interface IAsyncCommand extends ICommand {
+
+    /**
+     * Inicia la lógica del ICommand para manejar una INotification dada.
+     *
+     * @param notification una INotification para manejar.
+     * @return una CompletionStage que se completa cuando termina el trabajo iniciado
+     */
+    CompletionStage<?> executeAsync(INotification notification);
+
+    /**
+     * Inicia la lógica del ICommand sin esperar a que termine.
+     *
+     * @param notification una INotification para manejar.
+     */
+    default void execute(INotification notification) {
+        executeAsync(notification);
+    }
+}
@@ -0,0 +1,29 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+import java.util.List;
+
+/**
+ * La definición de interfaz para un Observador PureMVC que acepta lotes.
+ *
+ * Cuando se envía una colección de INotifications, la IView entrega a un
+ * IBatchObserver todas las notificaciones que le corresponden de un mismo
+ * nombre en una sola llamada, en el orden en que fueron enviadas. Los
+ * demás IObservers las reciben una a una.
+ *
+ * @see IView#notifyObservers(java.util.Collection) IView.notifyObservers
+ */
+public interface IBatchObserver extends IObserver {
+
+    /**
+     * Notifica al objeto interesado un lote de INotifications de un mismo nombre.
+     * @param notifications las INotifications, en orden de envío; la lista no es modificable
+     */
+    void notifyObserver(List<INotification> notifications);
+}
@@ -0,0 +1,22 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+/**
+ * Interfaz de marca para IMediators e ICommands que hacen E/S bloqueante
+ * en handleNotification o execute.
+ *
+ * Cuando el despacho en hilos virtuales está activo en la IView
+ * (Java 21 o superior), estos actores se ejecutan en un hilo virtual
+ * en lugar de ocupar el hilo de plataforma del emisor. En versiones
+ * anteriores de Java se ejecutan como siempre, en el hilo del emisor.
+ *
+ * @see IView#setVirtualThreadDispatch(boolean) IView.setVirtualThreadDispatch
+ */
+public interface IBlocking {
+}
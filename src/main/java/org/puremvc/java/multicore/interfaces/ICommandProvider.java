@@ -0,0 +1,45 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+import java.util.function.Supplier;
+
+/**
+ * La definición de interfaz para un proveedor de ICommands que administra sus instancias.
+ *
+ * Se registra con IController.registerCommand como cualquier Supplier de
+ * ICommand. El IController, en lugar de crear e inicializar una instancia por
+ * cada INotification, obtiene una ya inicializada con acquire y la devuelve con
+ * release al terminar, de modo que el proveedor puede reutilizarla.
+ *
+ * @see IController IController
+ */
+public interface ICommandProvider extends Supplier<ICommand> {
+
+    /**
+     * Obtiene una instancia de ICommand lista para ejecutarse en un Core.
+     * @param multitonKey la clave Multiton del Core
+     * @return una instancia de ICommand con su notificador inicializado
+     */
+    ICommand acquire(String multitonKey);
+
+    /**
+     * Devuelve una instancia obtenida con acquire después de ejecutarla.
+     * @param command la instancia de ICommand
+     */
+    default void release(ICommand command) {
+    }
+
+    /**
+     * Descarta las instancias de un Core. El IController lo llama cuando el
+     * proveedor deja de estar registrado en el Core o el Core se elimina.
+     * @param multitonKey la clave Multiton del Core
+     */
+    default void dispose(String multitonKey) {
+    }
+}
@@ -7,6 +7,11 @@
 
 package org.puremvc.java.multicore.interfaces;
 
+import org.puremvc.java.multicore.patterns.command.CommandSuppliers;
+import org.puremvc.java.multicore.patterns.command.Resilience;
+import org.puremvc.java.multicore.patterns.observer.NotificationRegistry;
+
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
     /**
@@ -33,12 +38,77 @@ import java.util.function.Supplier;
      * Registra una clase ICommand particular como el controlador
      * para una INotification particular.
      *
+     * Si commandSupplier es un ICommandProvider, el IController reutiliza
+     * las instancias que este administra en lugar de crear una por INotification.
+     *
      * @param notificationName el nombre de la INotification
      * @param commandSupplier una referencia al proveedor de ICommand
+     * @see ICommandProvider ICommandProvider
      */
 
     void registerCommand(String notificationName, Supplier<ICommand> commandSupplier);
 
+    /**
+     * Registra una clase ICommand particular como el controlador
+     * para una INotification particular, identificada por su identificador denso.
+     *
+     * Por defecto se registra por el nombre del identificador.
+     *
+     * @param notificationId el identificador de la INotification
+     * @param commandSupplier una referencia al proveedor de ICommand
+     * @see NotificationRegistry NotificationRegistry
+     */
+
+    default void registerCommand(int notificationId, Supplier<ICommand> commandSupplier) {
+        registerCommand(NotificationRegistry.nameOf(notificationId), commandSupplier);
+    }
+
+    /**
+     * Registra un ICommand protegido con reintentos y un circuito
+     * como el controlador para una INotification particular.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandSupplier una referencia al proveedor de ICommand
+     * @param resilience la política de reintentos y circuito
+     * @see Resilience Resilience
+     */
+
+    default void registerCommand(String notificationName, Supplier<ICommand> commandSupplier, Resilience resilience) {
+        registerCommand(notificationName, resilience.apply(commandSupplier));
+    }
+
+    /**
+     * Registra una clase ICommand como el controlador para una INotification particular.
+     *
+     * Las instancias se crean con un Supplier generado una sola vez por clase,
+     * tan rápido como invocar el constructor directamente.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandClass la clase del ICommand, con un constructor público sin argumentos
+     * @see CommandSuppliers CommandSuppliers
+     */
+
+    default void registerCommand(String notificationName, Class<? extends ICommand> commandClass) {
+        registerCommand(notificationName, CommandSuppliers.of(commandClass));
+    }
+
+    /**
+     * Agrega un ICommand a los que manejan una INotification particular,
+     * sin reemplazar los ya registrados. Se ejecutan en orden de registro.
+     *
+     * Por defecto solo se admite un ICommand por INotification: se registra
+     * si no hay ninguno.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandSupplier una referencia al proveedor de ICommand
+     * @throws UnsupportedOperationException si ya hay un ICommand y el IController no admite varios
+     */
+
+    default void addCommand(String notificationName, Supplier<ICommand> commandSupplier) {
+        if(hasCommand(notificationName)) throw new UnsupportedOperationException("Este IController no admite varios ICommands por INotification");
+        registerCommand(notificationName, commandSupplier);
+    }
+
     /**
      * Ejecuta el ICommand previamente registrado como el
      * controlador para INotifications con el nombre de notificación dado.
@@ -56,6 +126,54 @@ import java.util.function.Supplier;
 
     void removeCommand(String notificationName);
 
+    /**
+     * Elimina un mapeo previamente registrado de ICommand a INotification.
+     *
+     * Por defecto se elimina por el nombre del identificador.
+     *
+     * @param notificationId el identificador de la INotification para eliminar el mapeo de ICommand
+     */
+
+    default void removeCommand(int notificationId) {
+        removeCommand(NotificationRegistry.nameOf(notificationId));
+    }
+
+    /**
+     * Elimina un único ICommand de los registrados para una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandSupplier el proveedor de ICommand registrado
+     * @throws UnsupportedOperationException si el IController no admite varios ICommands por INotification
+     */
+
+    default void removeCommand(String notificationName, Supplier<ICommand> commandSupplier) {
+        throw new UnsupportedOperationException("Este IController no admite varios ICommands por INotification");
+    }
+
+    /**
+     * Agrega una clase ICommand a las que manejan una INotification particular.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandClass la clase del ICommand, con un constructor público sin argumentos
+     * @throws UnsupportedOperationException si ya hay un ICommand y el IController no admite varios
+     */
+
+    default void addCommand(String notificationName, Class<? extends ICommand> commandClass) {
+        addCommand(notificationName, CommandSuppliers.of(commandClass));
+    }
+
+    /**
+     * Elimina una única clase ICommand de las registradas para una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandClass la clase del ICommand registrada por clase
+     * @throws UnsupportedOperationException si el IController no admite varios ICommands por INotification
+     */
+
+    default void removeCommand(String notificationName, Class<? extends ICommand> commandClass) {
+        removeCommand(notificationName, CommandSuppliers.of(commandClass));
+    }
+
     /**
      * Comprueba si un comando está registrado para una notificación dada
      *
@@ -65,4 +183,100 @@ import java.util.function.Supplier;
 
     boolean hasCommand(String notificationName);
 
+    /**
+     * Comprueba si un comando está registrado para una notificación dada
+     *
+     * Por defecto se comprueba por el nombre del identificador.
+     *
+     * @param notificationId identificador de la notificación
+     * @return si un comando está actualmente registrado para el notificationId dado.
+     */
+
+    default boolean hasCommand(int notificationId) {
+        return hasCommand(NotificationRegistry.nameOf(notificationId));
+    }
+
+    /**
+     * Establece el tiempo límite de los IAsyncCommands de una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param timeout el tiempo límite, o 0 para quitarlo
+     * @param unit la unidad de timeout
+     * @throws UnsupportedOperationException si se establece un tiempo límite y el IController no los admite
+     * @see IAsyncCommand IAsyncCommand
+     */
+
+    default void setCommandTimeout(String notificationName, long timeout, TimeUnit unit) {
+        if(timeout > 0) throw new UnsupportedOperationException("Este IController no admite tiempos límite");
+    }
+
+    /**
+     * Configura la caché de resultados de los IMemoizedCommands de una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param capacity la cantidad máxima de resultados guardados
+     * @param invalidatedBy los nombres de las notificaciones que descartan los resultados
+     * @throws UnsupportedOperationException si el IController no guarda resultados
+     * @see IMemoizedCommand IMemoizedCommand
+     */
+
+    default void setResultCache(String notificationName, int capacity, String... invalidatedBy) {
+        throw new UnsupportedOperationException("Este IController no guarda resultados");
+    }
+
+    /**
+     * Descarta los resultados guardados de los IMemoizedCommands de una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     */
+
+    default void invalidateResults(String notificationName) {
+    }
+
+    /**
+     * Obtiene la cantidad de IAsyncCommands en curso para una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     * @return la cantidad de ejecuciones en curso, 0 si el IController no las registra
+     */
+
+    default int getInFlightCount(String notificationName) {
+        return 0;
+    }
+
+    /**
+     * Obtiene la cantidad total de IAsyncCommands en curso.
+     *
+     * @return la cantidad de ejecuciones en curso, 0 si el IController no las registra
+     */
+
+    default int getInFlightCount() {
+        return 0;
+    }
+
+    /**
+     * Cancela los IAsyncCommands en curso para una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     * @return la cantidad de ejecuciones canceladas, 0 si el IController no las registra
+     */
+
+    default int cancelInFlight(String notificationName) {
+        return 0;
+    }
+
+    /**
+     * Espera a que no quede ningún IAsyncCommand en curso, por ejemplo
+     * antes de eliminar el Core o al final de una prueba.
+     *
+     * @param timeout el tiempo máximo de espera
+     * @param unit la unidad de timeout
+     * @return si no queda ninguna ejecución en curso, true si el IController no las registra
+     * @throws InterruptedException si el hilo que espera es interrumpido
+     */
+
+    default boolean awaitQuiescence(long timeout, TimeUnit unit) throws InterruptedException {
+        return true;
+    }
+
 }
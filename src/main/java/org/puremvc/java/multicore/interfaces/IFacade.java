@@ -7,6 +7,13 @@
 
 package org.puremvc.java.multicore.interfaces;
 
+import org.puremvc.java.multicore.patterns.command.CommandSuppliers;
+import org.puremvc.java.multicore.patterns.command.Resilience;
+import org.puremvc.java.multicore.patterns.observer.NotificationRegistry;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -71,6 +78,48 @@ public interface IFacade extends INotifier {
 
     void registerCommand(String notificationName, Supplier<ICommand> commandSupplier);
 
+    /**
+     * Registra un ICommand con el Controller por identificador de notificación.
+     *
+     * Por defecto se registra por el nombre del identificador.
+     *
+     * @param notificationId el identificador de la INotification a asociar el ICommand
+     * @param commandSupplier una referencia al proveedor de ICommand
+     * @see NotificationRegistry NotificationRegistry
+     */
+
+    default void registerCommand(int notificationId, Supplier<ICommand> commandSupplier) {
+        registerCommand(NotificationRegistry.nameOf(notificationId), commandSupplier);
+    }
+
+    /**
+     * Registra un ICommand protegido con reintentos y un circuito con el Controller.
+     *
+     * @param notificationName el nombre de la INotification a asociar el ICommand
+     * @param commandSupplier una referencia al proveedor de ICommand
+     * @param resilience la política de reintentos y circuito
+     * @see IController#registerCommand(String, Supplier, Resilience) IController.registerCommand
+     */
+
+    default void registerCommand(String notificationName, Supplier<ICommand> commandSupplier, Resilience resilience) {
+        registerCommand(notificationName, resilience.apply(commandSupplier));
+    }
+
+    /**
+     * Registra una clase ICommand como el controlador para una INotification particular.
+     *
+     * Las instancias se crean con un Supplier generado una sola vez por clase,
+     * tan rápido como invocar el constructor directamente.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandClass la clase del ICommand, con un constructor público sin argumentos
+     * @see CommandSuppliers CommandSuppliers
+     */
+
+    default void registerCommand(String notificationName, Class<? extends ICommand> commandClass) {
+        registerCommand(notificationName, CommandSuppliers.of(commandClass));
+    }
+
     /**
      * Elimina el mapeo de ICommand a INotification del Controller.
      *
@@ -79,6 +128,68 @@ public interface IFacade extends INotifier {
 
     void removeCommand(String notificationName);
 
+    /**
+     * Elimina el mapeo de ICommand a INotification del Controller.
+     *
+     * Por defecto se elimina por el nombre del identificador.
+     *
+     * @param notificationId el identificador de la INotification para eliminar el mapeo
+     */
+
+    default void removeCommand(int notificationId) {
+        removeCommand(NotificationRegistry.nameOf(notificationId));
+    }
+
+    /**
+     * Agrega un ICommand a los que manejan una INotification en el Controller.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandSupplier una referencia al proveedor de ICommand
+     * @throws UnsupportedOperationException si ya hay un ICommand y la IFacade no admite varios
+     * @see IController#addCommand(String, Supplier) IController.addCommand
+     */
+
+    default void addCommand(String notificationName, Supplier<ICommand> commandSupplier) {
+        if(hasCommand(notificationName)) throw new UnsupportedOperationException("Esta IFacade no admite varios ICommands por INotification");
+        registerCommand(notificationName, commandSupplier);
+    }
+
+    /**
+     * Elimina un único ICommand de los registrados para una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandSupplier el proveedor de ICommand registrado
+     * @throws UnsupportedOperationException si la IFacade no admite varios ICommands por INotification
+     */
+
+    default void removeCommand(String notificationName, Supplier<ICommand> commandSupplier) {
+        throw new UnsupportedOperationException("Esta IFacade no admite varios ICommands por INotification");
+    }
+
+    /**
+     * Agrega una clase ICommand a las que manejan una INotification particular.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandClass la clase del ICommand, con un constructor público sin argumentos
+     * @throws UnsupportedOperationException si ya hay un ICommand y la IFacade no admite varios
+     */
+
+    default void addCommand(String notificationName, Class<? extends ICommand> commandClass) {
+        addCommand(notificationName, CommandSuppliers.of(commandClass));
+    }
+
+    /**
+     * Elimina una única clase ICommand de las registradas para una INotification.
+     *
+     * @param notificationName el nombre de la INotification
+     * @param commandClass la clase del ICommand registrada por clase
+     * @throws UnsupportedOperationException si la IFacade no admite varios ICommands por INotification
+     */
+
+    default void removeCommand(String notificationName, Class<? extends ICommand> commandClass) {
+        removeCommand(notificationName, CommandSuppliers.of(commandClass));
+    }
+
     /**
      * Verifica si hay un ICommand registrado para una INotification
      *
@@ -88,6 +199,19 @@ public interface IFacade extends INotifier {
 
     boolean hasCommand(String notificationName);
 
+    /**
+     * Verifica si hay un ICommand registrado para una INotification
+     *
+     * Por defecto se verifica por el nombre del identificador.
+     *
+     * @param notificationId identificador de la notificación
+     * @return si hay un ICommand registrado para esa notificación
+     */
+
+    default boolean hasCommand(int notificationId) {
+        return hasCommand(NotificationRegistry.nameOf(notificationId));
+    }
+
     /**
      * Registra una instancia IMediator con la Vista.
      *
@@ -132,4 +256,81 @@ public interface IFacade extends INotifier {
      * @param notification la INotification con la que la Vista notificará a los Observers.
      */
     void notifyObservers(INotification notification);
+
+    /**
+     * Crea y envía una INotification identificada por su identificador denso.
+     *
+     * Por defecto se envía por el nombre del identificador.
+     *
+     * @param notificationId el identificador de la notificación a enviar
+     * @param body el cuerpo de la notificación
+     * @param type el tipo de la notificación
+     */
+    default void sendNotification(int notificationId, Object body, String type) {
+        sendNotification(NotificationRegistry.nameOf(notificationId), body, type);
+    }
+
+    /**
+     * Crea y envía una INotification identificada por su identificador denso.
+     *
+     * @param notificationId el identificador de la notificación a enviar
+     * @param body el cuerpo de la notificación
+     */
+    default void sendNotification(int notificationId, Object body) {
+        sendNotification(notificationId, body, null);
+    }
+
+    /**
+     * Crea y envía una INotification identificada por su identificador denso.
+     *
+     * @param notificationId el identificador de la notificación a enviar
+     */
+    default void sendNotification(int notificationId) {
+        sendNotification(notificationId, null, null);
+    }
+
+    /**
+     * Envía una colección de INotifications en un solo despacho.
+     *
+     * Por defecto se notifican una a una, en orden, con notifyObservers.
+     *
+     * @param notifications las INotifications a enviar, en orden
+     * @see IView#notifyObservers(Collection) IView.notifyObservers
+     */
+    default void sendNotifications(Collection<? extends INotification> notifications) {
+        for(INotification notification : notifications) notifyObservers(notification);
+    }
+
+    /**
+     * Notifica a los Observers de forma asíncrona.
+     *
+     * Por defecto se despacha con notifyObservers en el hilo que llama.
+     *
+     * @param notification la INotification con la que la Vista notificará a los Observers.
+     * @return un CompletableFuture que se completa cuando todos los Observers terminan
+     * @see IView#notifyObserversAsync(INotification) IView.notifyObserversAsync
+     */
+    default CompletableFuture<Void> notifyObserversAsync(INotification notification) {
+        try {
+            notifyObservers(notification);
+            return CompletableFuture.completedFuture(null);
+        } catch(RuntimeException | Error error) {
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(error);
+            return failed;
+        }
+    }
+
+    /**
+     * Obtiene el Executor en el que este Core ejecuta el trabajo que no corre
+     * en el hilo del emisor.
+     *
+     * Por defecto no hay ninguno.
+     *
+     * @return el Executor, o null si todo se ejecuta en el hilo del emisor
+     * @see IView#getDispatchExecutor() IView.getDispatchExecutor
+     */
+    default Executor getDispatchExecutor() {
+        return null;
+    }
 }
@@ -0,0 +1,63 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+
+/**
+ * La definición de interfaz para un interés de un IMediator.
+ *
+ * Describe el nombre de las INotifications que le interesan a un IMediator
+ * y, opcionalmente, el tipo que deben tener. La View solo notifica al
+ * IMediator de las INotifications cuyo getType() coincide, de modo que
+ * handleNotification no recibe tipos que descartaría de inmediato.
+ *
+ * @see IMediator IMediator
+ * @see IView IView
+ */
+public interface IInterest {
+
+    /**
+     * Obtener el nombre (o patrón) de las INotifications de interés.
+     * @return nombre de la notificación
+     */
+    String getName();
+
+    /**
+     * Obtener el tipo de las INotifications de interés.
+     * @return tipo de la notificación, o null para cualquier tipo
+     */
+    String getType();
+
+    /**
+     * Obtener la prioridad de despacho para este interés.
+     * @return la prioridad, 0 por defecto
+     * @see IObserver#getPriority() IObserver.getPriority
+     */
+    default int getPriority() {
+        return 0;
+    }
+
+    /**
+     * Indica si el IMediator debe ser notificado en el hilo que envía la notificación.
+     * @return si debe ejecutarse en el hilo del emisor, true por defecto
+     * @see IObserver#isInline() IObserver.isInline
+     */
+    default boolean isInline() {
+        return true;
+    }
+
+    /**
+     * Adapta el IObserver que notifica al IMediator para este interés, por
+     * ejemplo para limitar la frecuencia de notificación.
+     * @param observer el IObserver del IMediator
+     * @return el IObserver a registrar, el mismo por defecto
+     */
+    default IObserver decorate(IObserver observer) {
+        return observer;
+    }
+}
@@ -7,6 +7,8 @@
 
 package org.puremvc.java.multicore.interfaces;
 
+import java.util.List;
+
 /**
  * La definición de interfaz para un Mediator de PureMVC.
  *
@@ -130,6 +132,18 @@ public interface IMediator extends INotifier {
      */
     String[] listNotificationInterests();
 
+    /**
+     * Listar los intereses de INotification por nombre y tipo.
+     *
+     * La IView solo notifica al IMediator de las INotifications de estos nombres
+     * cuyo tipo coincide con el declarado.
+     *
+     * @return un Array de los IInterest en los que este IMediator tiene interés.
+     */
+    default IInterest[] listInterests() {
+        return new IInterest[0];
+    }
+
     /**
      * Manejar una INotification.
      *
@@ -138,6 +152,22 @@ public interface IMediator extends INotifier {
 
     void handleNotification(INotification notification);
 
+    /**
+     * Manejar un lote de INotifications de un mismo nombre.
+     *
+     * La Vista lo llama cuando se envía una colección de INotifications.
+     * Por defecto llama a handleNotification con cada una; un IMediator
+     * puede sobrescribirlo para, por ejemplo, refrescar su vista una sola vez.
+     *
+     * @param notifications las INotifications, en orden de envío
+     */
+
+    default void handleNotifications(List<INotification> notifications) {
+        for(INotification notification : notifications) {
+            handleNotification(notification);
+        }
+    }
+
     /**
      * Llamado por la Vista cuando el Mediator es registrado
      */
@@ -0,0 +1,54 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+/**
+ * La definición de interfaz para un comando PureMVC idempotente.
+ *
+ * Un IMemoizedCommand es una función pura del cuerpo de la INotification:
+ * compute calcula el resultado (normalmente a partir de los IProxys) y
+ * publish lo comunica, por ejemplo enviando una notificación de resultado.
+ *
+ * Si la INotification tiene una caché configurada con setResultCache, el
+ * IController guarda los resultados de compute por cuerpo; si llega otra
+ * INotification con un cuerpo igual, llama solo a publish con el resultado
+ * guardado. Sin caché se ejecuta como cualquier ICommand.
+ *
+ * El IController solo reconoce la instancia que obtiene del supplier
+ * registrado: un supplier que la envuelve (Resilience, SingleFlight o
+ * Bulkhead) entrega otro ICommand, y compute se llama en cada ejecución.
+ *
+ * @see IController#setResultCache(String, int, String...) IController.setResultCache
+ */
+public interface IMemoizedCommand extends ICommand {
+
+    /**
+     * Calcula el resultado para una INotification.
+     *
+     * @param notification una INotification para manejar.
+     * @return el resultado, que puede ser null
+     */
+    Object compute(INotification notification);
+
+    /**
+     * Comunica el resultado calculado, o guardado, para una INotification.
+     *
+     * @param notification una INotification para manejar.
+     * @param result el resultado de compute
+     */
+    void publish(INotification notification, Object result);
+
+    /**
+     * Calcula y comunica el resultado sin usar el resultado guardado.
+     *
+     * @param notification una INotification para manejar.
+     */
+    default void execute(INotification notification) {
+        publish(notification, compute(notification));
+    }
+}
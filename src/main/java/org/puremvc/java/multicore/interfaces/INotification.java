@@ -30,6 +30,19 @@ public interface INotification {
      */
     String getName();
 
+    /**
+     * Obtener el identificador denso del nombre de la INotification.
+     *
+     * View y Controller lo usan para indexar sus tablas de despacho.
+     * Las implementaciones deberían guardarlo para no resolverlo en cada envío.
+     * Por defecto devuelve -1 y View y Controller resuelven el nombre.
+     * @return identificador de la notificación, o -1 si no se conoce
+     * @see org.puremvc.java.multicore.patterns.observer.NotificationRegistry NotificationRegistry
+     */
+    default int getId() {
+        return -1;
+    }
+
     /**
      * Establecer el cuerpo de la instancia de INotification
      * @param body cuerpo
@@ -54,6 +67,27 @@ public interface INotification {
      */
     String getType();
 
+    /**
+     * Detener la propagación de la INotification.
+     *
+     * La IView no notifica a los IObservers restantes, incluido el
+     * del Controller, de modo que un observador de alta prioridad
+     * (una validación o un acierto de caché) evita el trabajo posterior.
+     *
+     * Por defecto no hace nada: una INotification que no guarda el estado
+     * sigue su propagación, porque isPropagationStopped devuelve false.
+     */
+    default void stopPropagation() {
+    }
+
+    /**
+     * Indica si se detuvo la propagación de la INotification.
+     * @return si se llamó a stopPropagation
+     */
+    default boolean isPropagationStopped() {
+        return false;
+    }
+
     /**
      * Obtener la representación en cadena de la instancia de INotification
      */
@@ -66,4 +66,40 @@ public interface IObserver {
      * @return booleano que indica si el contexto de notificación y el objeto son iguales.
      */
     boolean compareNotifyContext(Object object);
+
+    /**
+     * Obtiene la prioridad de despacho.
+     *
+     * La IView notifica primero a los observadores de mayor prioridad;
+     * los de igual prioridad se notifican en orden de registro.
+     * Se lee al registrar el observador.
+     * @return la prioridad, 0 por defecto
+     */
+    default int getPriority() {
+        return 0;
+    }
+
+    /**
+     * Indica si el observador debe ejecutarse en el hilo que envía la notificación.
+     *
+     * En el despacho asíncrono de la IView, los observadores que no son
+     * inline pueden ejecutarse en el Executor del Core.
+     * Se lee al registrar el observador.
+     * @return si debe ejecutarse en el hilo del emisor, true por defecto
+     */
+    default boolean isInline() {
+        return true;
+    }
+
+    /**
+     * Indica si el observador hace E/S bloqueante.
+     *
+     * Con el despacho en hilos virtuales activo en la IView, los observadores
+     * bloqueantes se ejecutan en un hilo virtual. Se lee al registrar el observador.
+     * @return si el observador es bloqueante, false por defecto
+     * @see IBlocking IBlocking
+     */
+    default boolean isBlocking() {
+        return false;
+    }
 }
\ No newline at end of file
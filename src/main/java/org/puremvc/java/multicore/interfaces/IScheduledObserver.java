@@ -0,0 +1,35 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.interfaces;
+
+import java.util.concurrent.Executor;
+
+/**
+ * La definición de interfaz para un Observador PureMVC que entrega
+ * INotifications más tarde, desde un temporizador.
+ *
+ * Al registrarlo, la IView le indica por dónde entregar: su bucle de eventos
+ * o su Executor, o el hilo del temporizador si no tiene ninguno. Al
+ * eliminarlo, le avisa para que descarte las entregas pendientes.
+ *
+ * @see IView#registerObserver(String, IObserver) IView.registerObserver
+ */
+public interface IScheduledObserver extends IObserver {
+
+    /**
+     * Se llama al registrar el IObserver en una IView.
+     *
+     * @param dispatcher el Executor por el que se hacen las entregas diferidas
+     */
+    void attach(Executor dispatcher);
+
+    /**
+     * Se llama al eliminar el IObserver de la IView; las entregas pendientes se descartan.
+     */
+    void detach();
+}
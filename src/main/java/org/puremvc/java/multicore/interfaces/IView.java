@@ -7,6 +7,14 @@
 
 package org.puremvc.java.multicore.interfaces;
 
+import org.puremvc.java.multicore.patterns.observer.NotificationRegistry;
+import org.puremvc.java.multicore.patterns.observer.RateLimit;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
 /**
  * La definición de interfaz para una Vista PureMVC.
  *
@@ -37,6 +45,85 @@ public interface IView {
      */
     void registerObserver(String notificationName, IObserver observer);
 
+    /**
+     * Registra un IObserver envuelto en un operador debounce o throttle.
+     * Por defecto se registra el IObserver devuelto por RateLimit.apply.
+     * @param notificationName el nombre de las INotifications para notificar a este IObserver
+     * @param observer el IObserver para registrar
+     * @param rateLimit el operador que limita la frecuencia de notificación
+     * @see RateLimit RateLimit
+     */
+    default void registerObserver(String notificationName, IObserver observer, RateLimit rateLimit) {
+        registerObserver(notificationName, rateLimit.apply(observer));
+    }
+
+    /**
+     * Registra un IObserver para ser notificado de INotifications con un identificador dado.
+     * Por defecto se registra por el nombre del identificador.
+     * @param notificationId el identificador de las INotifications para notificar a este IObserver
+     * @param observer el IObserver para registrar
+     * @see NotificationRegistry NotificationRegistry
+     */
+    default void registerObserver(int notificationId, IObserver observer) {
+        registerObserver(NotificationRegistry.nameOf(notificationId), observer);
+    }
+
+    /**
+     * Registra un IObserver para ser notificado de INotifications con un nombre y un tipo dados.
+     * El IObserver solo es notificado cuando getType() de la INotification es igual a type.
+     * Por defecto se registra sin tipo, envuelto en un IObserver que compara el tipo
+     * y delega todo lo demás, de modo que se elimina con removeObserver como cualquier otro.
+     * @param notificationName el nombre de las INotifications para notificar a este IObserver
+     * @param type el tipo de las INotifications, o null para cualquier tipo
+     * @param observer el IObserver para registrar
+     */
+    default void registerObserver(String notificationName, String type, IObserver observer) {
+        if(type == null) {
+            registerObserver(notificationName, observer);
+            return;
+        }
+        registerObserver(notificationName, new IObserver() {
+            public void setNotifyMethod(Consumer<INotification> notifyMethod) {
+                observer.setNotifyMethod(notifyMethod);
+            }
+
+            public void setNotifyContext(Object notifyContext) {
+                observer.setNotifyContext(notifyContext);
+            }
+
+            public void notifyObserver(INotification notification) {
+                if(type.equals(notification.getType())) observer.notifyObserver(notification);
+            }
+
+            public boolean compareNotifyContext(Object object) {
+                return observer.compareNotifyContext(object);
+            }
+
+            public int getPriority() {
+                return observer.getPriority();
+            }
+
+            public boolean isInline() {
+                return observer.isInline();
+            }
+
+            public boolean isBlocking() {
+                return observer.isBlocking();
+            }
+        });
+    }
+
+    /**
+     * Registra un IObserver para ser notificado de INotifications con un identificador y un tipo dados.
+     * Por defecto se registra por el nombre del identificador.
+     * @param notificationId el identificador de las INotifications para notificar a este IObserver
+     * @param type el tipo de las INotifications, o null para cualquier tipo
+     * @param observer el IObserver para registrar
+     */
+    default void registerObserver(int notificationId, String type, IObserver observer) {
+        registerObserver(NotificationRegistry.nameOf(notificationId), type, observer);
+    }
+
     /**
      * Elimina un grupo de observadores de la lista de observadores para un nombre de notificación dado.
      * @param notificationName qué lista de observadores eliminar
@@ -44,6 +131,16 @@ public interface IView {
      */
     void removeObserver(String notificationName, Object notifyContext);
 
+    /**
+     * Elimina un grupo de observadores de la lista de observadores para un identificador de notificación dado.
+     * Por defecto se eliminan por el nombre del identificador.
+     * @param notificationId qué lista de observadores eliminar
+     * @param notifyContext elimina los observadores con este objeto como su notifyContext
+     */
+    default void removeObserver(int notificationId, Object notifyContext) {
+        removeObserver(NotificationRegistry.nameOf(notificationId), notifyContext);
+    }
+
     /**
      * Notifica a los IObservers para una INotification particular.
      * Todos los IObservers previamente adjuntos para esta lista de INotification
@@ -53,6 +150,224 @@ public interface IView {
      */
     void notifyObservers(INotification notification);
 
+    /**
+     * Notifica a los IObservers una colección de INotifications.
+     * Las notificaciones se agrupan por nombre, en el orden de su primera
+     * aparición; cada IBatchObserver recibe las de su grupo en una sola
+     * llamada y los demás IObservers las reciben una a una. Por defecto se
+     * notifican una a una, en orden, con notifyObservers.
+     * @param notifications las INotifications a notificar.
+     */
+    default void notifyObservers(Collection<? extends INotification> notifications) {
+        for(INotification notification : notifications) notifyObservers(notification);
+    }
+
+    /**
+     * Notifica a los IObservers una INotification en modo de conflación: mientras
+     * está pendiente, otra con el mismo nombre y clave la reemplaza. Por
+     * defecto nunca queda pendiente y se notifica con notifyObservers.
+     * @param notification la INotification para notificar a los IObservers.
+     * @param conflationKey la clave de la serie
+     */
+    default void notifyObserversConflated(INotification notification, Object conflationKey) {
+        notifyObservers(notification);
+    }
+
+    /**
+     * Obtiene la cantidad de INotifications reemplazadas en modo de conflación.
+     * @return el total para todos los nombres
+     */
+    default long getConflatedCount() {
+        return 0;
+    }
+
+    /**
+     * Obtiene la cantidad de INotifications reemplazadas en modo de conflación.
+     * @param notificationName el nombre de la notificación
+     * @return el total para ese nombre
+     */
+    default long getConflatedCount(String notificationName) {
+        return 0;
+    }
+
+    /**
+     * Notifica a los IObservers para una INotification particular de forma asíncrona.
+     * Los IObservers inline se ejecutan en el hilo que llama; los demás pueden
+     * ejecutarse en el Executor configurado con setExecutor. Por defecto se
+     * despacha con notifyObservers en el hilo que llama.
+     * @param notification la INotification para notificar a los IObservers.
+     * @return un CompletableFuture que se completa cuando todos los IObservers terminan
+     */
+    default CompletableFuture<Void> notifyObserversAsync(INotification notification) {
+        try {
+            notifyObservers(notification);
+            return CompletableFuture.completedFuture(null);
+        } catch(RuntimeException | Error error) {
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(error);
+            return failed;
+        }
+    }
+
+    /**
+     * Establece el Executor para el despacho asíncrono de este Core.
+     * Una IView sin despacho asíncrono solo acepta null.
+     * @param executor el Executor, o null para ejecutar todo en el hilo del emisor
+     * @throws UnsupportedOperationException si la IView no admite despacho asíncrono
+     */
+    default void setExecutor(Executor executor) {
+        if(executor != null) throw new UnsupportedOperationException("Esta IView no admite despacho asíncrono");
+    }
+
+    /**
+     * Obtiene el Executor para el despacho asíncrono de este Core.
+     * @return el Executor, o null si no hay uno configurado
+     */
+    default Executor getExecutor() {
+        return null;
+    }
+
+    /**
+     * Obtiene el Executor en el que este Core ejecuta el trabajo que no corre
+     * en el hilo del emisor: el bucle de eventos con el modo actor activo, o
+     * el Executor del Core.
+     * @return el Executor, o null si todo se ejecuta en el hilo del emisor
+     */
+    default Executor getDispatchExecutor() {
+        return getExecutor();
+    }
+
+    /**
+     * Activa o desactiva el modo actor: el despacho se confina a un hilo propio
+     * del Core y los envíos desde otros hilos se encolan en su bandeja de entrada.
+     * @param enabled si se activa el modo
+     * @throws UnsupportedOperationException si se activa y la IView no admite el modo
+     */
+    default void setEventLoopMode(boolean enabled) {
+        if(enabled) throw new UnsupportedOperationException("Esta IView no admite el modo actor");
+    }
+
+    /**
+     * Indica si el modo actor está activo.
+     * @return si el modo está activo
+     */
+    default boolean isEventLoopMode() {
+        return false;
+    }
+
+    /**
+     * Indica si el hilo que llama es el hilo del bucle de eventos del Core.
+     * @return si el modo está activo y el hilo actual es el del bucle
+     */
+    default boolean inEventLoop() {
+        return false;
+    }
+
+    /**
+     * Acota la cola del bucle de eventos para todo el Core. El límite solo se
+     * aplica en modo actor.
+     * @param capacity la cantidad máxima de notificaciones encoladas
+     * @param policy la política cuando la cola está llena
+     * @throws UnsupportedOperationException si la IView no admite límites de cola
+     * @see BackpressurePolicy BackpressurePolicy
+     */
+    default void setQueueLimit(int capacity, BackpressurePolicy policy) {
+        throw new UnsupportedOperationException("Esta IView no admite límites de cola");
+    }
+
+    /**
+     * Acota la cola del bucle de eventos para un nombre de notificación.
+     * @param notificationName el nombre de la notificación
+     * @param capacity la cantidad máxima de notificaciones encoladas con ese nombre
+     * @param policy la política cuando la cola está llena
+     * @throws UnsupportedOperationException si la IView no admite límites de cola
+     */
+    default void setQueueLimit(String notificationName, int capacity, BackpressurePolicy policy) {
+        throw new UnsupportedOperationException("Esta IView no admite límites de cola");
+    }
+
+    /**
+     * Activa o desactiva el despacho diferido: las INotifications enviadas durante
+     * un despacho se encolan y se despachan al terminar, con profundidad de pila constante.
+     * @param enabled si se activa el modo
+     * @throws UnsupportedOperationException si se activa y la IView no admite el modo
+     */
+    default void setDeferredDispatch(boolean enabled) {
+        if(enabled) throw new UnsupportedOperationException("Esta IView no admite el despacho diferido");
+    }
+
+    /**
+     * Indica si el despacho diferido está activo.
+     * @return si el modo está activo
+     */
+    default boolean isDeferredDispatch() {
+        return false;
+    }
+
+    /**
+     * Obtiene el único IObserver de una notificación cuando notificarlo
+     * directamente equivale a despacharla con notifyObservers.
+     *
+     * La Facade lo usa para ejecutar directamente el ICommand de las
+     * notificaciones que no tienen otros IObservers. Una IView que agrega
+     * lógica a notifyObservers debe devolver null.
+     *
+     * @param notificationId el identificador de la notificación
+     * @return el IObserver, o null si la notificación debe despacharse con notifyObservers
+     */
+    default IObserver getDirectObserver(int notificationId) {
+        return null;
+    }
+
+    /**
+     * Activa o desactiva el despacho en hilos virtuales para los actores bloqueantes.
+     * Requiere Java 21; en versiones anteriores, o si la IView no lo admite,
+     * el modo no se activa.
+     * @param enabled si se activa el modo
+     * @return si el modo quedó activo
+     * @see IBlocking IBlocking
+     */
+    default boolean setVirtualThreadDispatch(boolean enabled) {
+        return false;
+    }
+
+    /**
+     * Indica si el despacho en hilos virtuales está activo.
+     * @return si el modo está activo
+     */
+    default boolean isVirtualThreadDispatch() {
+        return false;
+    }
+
+    /**
+     * Obtiene el Executor para los actores bloqueantes.
+     * @return el Executor de hilos virtuales, o null si el modo no está activo
+     */
+    default Executor getBlockingExecutor() {
+        return null;
+    }
+
+    /**
+     * Establece si el envío de una notificación espera a sus actores bloqueantes.
+     * Sin despacho en hilos virtuales los actores bloqueantes se ejecutan en
+     * el hilo del emisor y la política no tiene efecto.
+     * @param notificationName el nombre de la notificación
+     * @param policy la política, JOIN por defecto
+     * @throws UnsupportedOperationException si la política no es JOIN y la IView no admite otras
+     */
+    default void setBlockingPolicy(String notificationName, BlockingPolicy policy) {
+        if(policy != BlockingPolicy.JOIN) throw new UnsupportedOperationException("Esta IView no admite políticas para los actores bloqueantes");
+    }
+
+    /**
+     * Obtiene la política para los actores bloqueantes de una notificación.
+     * @param notificationId el identificador de la notificación
+     * @return la política configurada, o JOIN si no hay una
+     */
+    default BlockingPolicy getBlockingPolicy(int notificationId) {
+        return BlockingPolicy.JOIN;
+    }
+
     /**
      * Registra una instancia de IMediator con la Vista.
      * Registra el IMediator para que pueda ser recuperado por nombre,
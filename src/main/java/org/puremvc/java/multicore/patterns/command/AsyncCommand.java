@@ -0,0 +1,36 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.IAsyncCommand;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.observer.Notifier;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Una implementación base de IAsyncCommand.
+ *
+ * Su subclase debe anular el método executeAsync y devolver una
+ * CompletionStage que se complete cuando termine el trabajo iniciado.
+ *
+ * @see org.puremvc.java.multicore.core.Controller Controller
+ * @see SimpleCommand SimpleCommand
+ */
+
+public abstract class AsyncCommand extends Notifier implements IAsyncCommand {
+
+    /**
+     * Inicia el caso de uso iniciado por la INotification dada.
+     *
+     * @param notification la <code>INotification</code> a manejar.
+     * @return una CompletionStage que se completa cuando termina el caso de uso
+     */
+
+    public abstract CompletionStage<?> executeAsync(INotification notification);
+}
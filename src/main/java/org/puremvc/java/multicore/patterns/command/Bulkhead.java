@@ -0,0 +1,166 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.IAsyncCommand;
+import org.puremvc.java.multicore.interfaces.ICommand;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.observer.Notifier;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Un grupo aislado de ICommands con sus propios hilos.
+ *
+ * Cada Bulkhead ejecuta sus ICommands en un pool propio, con a lo sumo
+ * maxConcurrent ejecuciones a la vez y a lo sumo queueCapacity esperando.
+ * Si no hay lugar, el envío de la INotification lanza
+ * RejectedExecutionException, de modo que un grupo desbordado (por ejemplo,
+ * los reportes) no ocupa los hilos de los demás (por ejemplo, los pedidos).
+ *
+ * {@code
+ *   controller.registerBulkhead(new Bulkhead("reports", 2, 50));
+ *   controller.registerBulkheadCommand("buildReport", BuildReportCommand::new, "reports");
+ * }
+ *
+ * Los ICommands del Bulkhead son IAsyncCommands: el IController sigue cada
+ * ejecución como una ejecución en curso. Si el ICommand original es un
+ * IAsyncCommand, ocupa el hilo solo mientras corre executeAsync.
+ *
+ * @see org.puremvc.java.multicore.core.Controller#registerBulkheadCommand(String, Supplier, String) Controller.registerBulkheadCommand
+ */
+public class Bulkhead {
+
+    private final String name;
+
+    private final int maxConcurrent;
+
+    private final int queueCapacity;
+
+    private final BlockingQueue<Runnable> queue;
+
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicInteger highWaterMark = new AtomicInteger();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param name el nombre del Bulkhead
+     * @param maxConcurrent la cantidad máxima de ICommands ejecutándose a la vez
+     * @param queueCapacity la cantidad máxima de ICommands esperando, puede ser 0
+     * @throws IllegalArgumentException si maxConcurrent no es positiva o queueCapacity es negativa
+     */
+    public Bulkhead(String name, int maxConcurrent, int queueCapacity) {
+        if(maxConcurrent < 1) throw new IllegalArgumentException("La concurrencia debe ser positiva: " + maxConcurrent);
+        if(queueCapacity < 0) throw new IllegalArgumentException("La capacidad no puede ser negativa: " + queueCapacity);
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.queueCapacity = queueCapacity;
+        queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        AtomicInteger threads = new AtomicInteger();
+        executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60, TimeUnit.SECONDS, queue, task -> {
+            Thread thread = new Thread(task, "PureMVC-Bulkhead-" + name + "-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, (task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("Bulkhead lleno: " + name);
+        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Obtiene el nombre del Bulkhead.
+     *
+     * @return el nombre
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Envuelve un supplier de ICommand para ejecutarlo en este Bulkhead.
+     *
+     * @param commandSupplier el supplier del ICommand
+     * @return el supplier de ICommands que se ejecutan en este Bulkhead
+     */
+    public Supplier<ICommand> apply(Supplier<ICommand> commandSupplier) {
+        return () -> new BulkheadCommand(commandSupplier);
+    }
+
+    /**
+     * Obtiene una instantánea de los contadores.
+     *
+     * @return los contadores actuales
+     */
+    public BulkheadStats getStats() {
+        return new BulkheadStats(name, maxConcurrent, queueCapacity, executor.getActiveCount(), queue.size(),
+                highWaterMark.get(), submitted.sum(), completed.sum(), rejected.sum());
+    }
+
+    /**
+     * Detiene el Bulkhead después de ejecutar los ICommands aceptados.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void submit(Runnable task) {
+        executor.execute(task);
+        submitted.increment();
+        highWaterMark.accumulateAndGet(queue.size(), Math::max);
+    }
+
+    private final class BulkheadCommand extends Notifier implements IAsyncCommand {
+
+        private final Supplier<ICommand> commandSupplier;
+
+        BulkheadCommand(Supplier<ICommand> commandSupplier) {
+            this.commandSupplier = commandSupplier;
+        }
+
+        public CompletionStage<?> executeAsync(INotification notification) {
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            submit(() -> {
+                if(result.isDone()) {
+                    completed.increment();
+                    return;
+                }
+                CompletableFuture<Object> execution;
+                try {
+                    execution = CommandExecutions.execute(commandSupplier, multitonKey, notification);
+                } catch(Throwable t) {
+                    execution = new CompletableFuture<>();
+                    execution.completeExceptionally(t);
+                }
+                // se cuenta antes de completar, para que las métricas estén al día al terminar el ICommand
+                completed.increment();
+                execution.whenComplete((value, error) -> {
+                    if(error != null) result.completeExceptionally(error);
+                    else result.complete(value);
+                });
+            });
+            return result;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+/**
+ * Una instantánea de los contadores de un Bulkhead.
+ *
+ * @see Bulkhead Bulkhead
+ */
+public final class BulkheadStats {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final int active;
+    private final int queueDepth;
+    private final int highWaterMark;
+    private final long submitted;
+    private final long completed;
+    private final long rejected;
+
+    /**
+     * Constructor.
+     *
+     * @param name el nombre del Bulkhead
+     * @param maxConcurrent la cantidad máxima de ICommands ejecutándose a la vez
+     * @param queueCapacity la cantidad máxima de ICommands esperando
+     * @param active la cantidad de ICommands ejecutándose
+     * @param queueDepth la cantidad de ICommands esperando
+     * @param highWaterMark la mayor cantidad de ICommands esperando a la vez
+     * @param submitted la cantidad de ICommands aceptados
+     * @param completed la cantidad de ICommands terminados
+     * @param rejected la cantidad de ICommands rechazados por falta de lugar
+     */
+    public BulkheadStats(String name, int maxConcurrent, int queueCapacity, int active, int queueDepth,
+                         int highWaterMark, long submitted, long completed, long rejected) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.queueCapacity = queueCapacity;
+        this.active = active;
+        this.queueDepth = queueDepth;
+        this.highWaterMark = highWaterMark;
+        this.submitted = submitted;
+        this.completed = completed;
+        this.rejected = rejected;
+    }
+
+    /**
+     * @return el nombre del Bulkhead
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return la cantidad máxima de ICommands ejecutándose a la vez
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * @return la cantidad máxima de ICommands esperando
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * @return la cantidad de ICommands ejecutándose al tomar la instantánea
+     */
+    public int getActive() {
+        return active;
+    }
+
+    /**
+     * @return la cantidad de ICommands esperando al tomar la instantánea
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * @return la mayor cantidad de ICommands esperando a la vez
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * @return la cantidad de ICommands aceptados
+     */
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    /**
+     * @return la cantidad de ICommands terminados, con o sin error
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * @return la cantidad de ICommands rechazados por falta de lugar
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * @return la representación en cadena de los contadores
+     */
+    public String toString() {
+        return "BulkheadStats name=" + name + " maxConcurrent=" + maxConcurrent + " queueCapacity=" + queueCapacity
+                + " active=" + active + " queueDepth=" + queueDepth + " highWaterMark=" + highWaterMark
+                + " submitted=" + submitted + " completed=" + completed + " rejected=" + rejected;
+    }
+}
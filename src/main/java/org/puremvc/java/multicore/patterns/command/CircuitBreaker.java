@@ -0,0 +1,80 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+/**
+ * El circuito de un ICommand para un nombre de notificación.
+ *
+ * Los métodos devuelven el nuevo estado cuando hubo una transición, o null,
+ * para que quien llama envíe la notificación de cambio de estado.
+ */
+final class CircuitBreaker {
+
+    private final int failureThreshold;
+
+    private final long openNanos;
+
+    private CircuitState state = CircuitState.CLOSED;
+
+    private int failures;
+
+    private long openedAt;
+
+    // hay una ejecución de prueba en curso en HALF_OPEN
+    private boolean trial;
+
+    CircuitBreaker(int failureThreshold, long openNanos) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+    }
+
+    /**
+     * Decide si se permite una ejecución.
+     *
+     * @param transitions recibe en la posición 0 el nuevo estado, si hubo una transición
+     * @return si se permite la ejecución
+     */
+    synchronized boolean allow(CircuitState[] transitions) {
+        switch(state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if(System.nanoTime() - openedAt < openNanos) return false;
+                state = CircuitState.HALF_OPEN;
+                transitions[0] = state;
+                trial = true;
+                return true;
+            default:
+                if(trial) return false;
+                trial = true;
+                return true;
+        }
+    }
+
+    synchronized CircuitState onSuccess() {
+        failures = 0;
+        trial = false;
+        if(state == CircuitState.CLOSED) return null;
+        state = CircuitState.CLOSED;
+        return state;
+    }
+
+    synchronized CircuitState onFailure() {
+        trial = false;
+        if(state == CircuitState.CLOSED && ++failures < failureThreshold) return null;
+        failures = 0;
+        openedAt = System.nanoTime();
+        if(state == CircuitState.OPEN) return null;
+        state = CircuitState.OPEN;
+        return state;
+    }
+
+    synchronized CircuitState getState() {
+        return state;
+    }
+}
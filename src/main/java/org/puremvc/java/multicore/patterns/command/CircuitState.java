@@ -0,0 +1,33 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+/**
+ * El estado del circuito de un ICommand con Resilience.
+ *
+ * @see Resilience Resilience
+ */
+public enum CircuitState {
+
+    /**
+     * El ICommand se ejecuta normalmente.
+     */
+    CLOSED,
+
+    /**
+     * Fallaron demasiadas ejecuciones seguidas; las INotifications se
+     * rechazan sin ejecutar el ICommand hasta que pase el tiempo de apertura.
+     */
+    OPEN,
+
+    /**
+     * Pasó el tiempo de apertura; se permite una ejecución de prueba que
+     * cierra el circuito si termina bien o lo vuelve a abrir si falla.
+     */
+    HALF_OPEN
+}
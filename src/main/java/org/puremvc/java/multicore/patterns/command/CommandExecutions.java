@@ -0,0 +1,137 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.IAsyncCommand;
+import org.puremvc.java.multicore.interfaces.ICommand;
+import org.puremvc.java.multicore.interfaces.ICommandProvider;
+import org.puremvc.java.multicore.interfaces.INotification;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Ejecución de un ICommand a partir de su supplier.
+ *
+ * Reúne los pasos que comparten el Controller y los suppliers que envuelven
+ * otro supplier: obtener la instancia (con acquire si el supplier es un
+ * ICommandProvider, o con get e initializeNotifier), ejecutarla (con
+ * executeAsync si es un IAsyncCommand) y devolverla con release cuando la
+ * ejecución termina, también si termina con un Error.
+ *
+ * @see ICommandProvider ICommandProvider
+ */
+public final class CommandExecutions {
+
+    private CommandExecutions() {
+    }
+
+    /**
+     * Obtiene, inicializa y ejecuta un ICommand.
+     *
+     * @param commandSupplier el supplier o ICommandProvider del ICommand
+     * @param multitonKey la clave Multiton del Core
+     * @param notification la INotification a pasar al ICommand
+     * @return un CompletableFuture que se completa cuando termina la ejecución, ya completado si el ICommand es síncrono
+     * @see #execute(Supplier, String, INotification, BiFunction)
+     */
+    public static CompletableFuture<Object> execute(Supplier<ICommand> commandSupplier, String multitonKey, INotification notification) {
+        return execute(commandSupplier, multitonKey, notification, CommandExecutions::run);
+    }
+
+    /**
+     * Obtiene, inicializa y ejecuta un ICommand con una forma de ejecución propia.
+     *
+     * El runner recibe la instancia inicializada y devuelve la CompletionStage
+     * de su ejecución, o null si ya terminó. Las excepciones de la obtención
+     * o del runner se lanzan al llamador después de devolver la instancia;
+     * las de la CompletionStage completan el CompletableFuture devuelto.
+     *
+     * @param commandSupplier el supplier o ICommandProvider del ICommand
+     * @param multitonKey la clave Multiton del Core
+     * @param notification la INotification a pasar al ICommand
+     * @param runner la forma de ejecutar la instancia
+     * @return un CompletableFuture que se completa cuando termina la ejecución, ya completado si el runner devuelve null
+     */
+    public static CompletableFuture<Object> execute(Supplier<ICommand> commandSupplier, String multitonKey, INotification notification,
+                                                    BiFunction<ICommand, INotification, CompletionStage<?>> runner) {
+        ICommandProvider provider = commandSupplier instanceof ICommandProvider ? (ICommandProvider) commandSupplier : null;
+        ICommand command;
+        if(provider != null) {
+            command = provider.acquire(multitonKey);
+        } else {
+            command = commandSupplier.get();
+            command.initializeNotifier(multitonKey);
+        }
+
+        CompletionStage<?> stage;
+        try {
+            stage = runner.apply(command, notification);
+        } catch(Throwable t) {
+            if(provider != null) provider.release(command);
+            throw t;
+        }
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        if(stage == null) {
+            if(provider != null) provider.release(command);
+            result.complete(null);
+            return result;
+        }
+        stage.whenComplete((value, error) -> {
+            if(provider != null) provider.release(command);
+            if(error != null) result.completeExceptionally(unwrap(error));
+            else result.complete(value);
+        });
+        return result;
+    }
+
+    /**
+     * Espera a que termine una ejecución y relanza su excepción, como si se
+     * hubiera ejecutado en el hilo que espera.
+     *
+     * @param execution la ejecución
+     * @return el resultado de la ejecución
+     */
+    public static Object join(CompletableFuture<?> execution) {
+        try {
+            return execution.join();
+        } catch(CompletionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if(cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Obtiene la causa de una excepción envuelta por una CompletionStage dependiente.
+     *
+     * @param error la excepción con la que se completó una CompletionStage
+     * @return la excepción original
+     */
+    public static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Ejecuta una instancia ya inicializada: con executeAsync si es un
+     * IAsyncCommand, o con execute.
+     *
+     * @param command el ICommand
+     * @param notification la INotification a pasar al ICommand
+     * @return la CompletionStage de executeAsync, o null si el ICommand es síncrono
+     */
+    public static CompletionStage<?> run(ICommand command, INotification notification) {
+        if(command instanceof IAsyncCommand) return ((IAsyncCommand) command).executeAsync(notification);
+        command.execute(notification);
+        return null;
+    }
+}
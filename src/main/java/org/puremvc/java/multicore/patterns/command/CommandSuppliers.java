@@ -0,0 +1,115 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.ICommand;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
+
+/**
+ * Suppliers de ICommand generados a partir de una clase.
+ *
+ * Para cada clase se genera, una sola vez, un Supplier que invoca su
+ * constructor sin argumentos mediante LambdaMetafactory, de modo que crear
+ * una instancia cuesta lo mismo que un {@code new} escrito a mano y no una
+ * llamada reflexiva. El Supplier queda en caché para la clase, así que
+ * registrar muchos ICommands de la misma clase no vuelve a generarlo.
+ * Las clases que no son visibles desde el cargador de clases del framework
+ * se crean invocando su constructor con un MethodHandle.
+ *
+ * @see org.puremvc.java.multicore.interfaces.IController#registerCommand(String, Class) IController.registerCommand
+ */
+public final class CommandSuppliers {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Supplier.class);
+
+    private static final MethodType GET_TYPE = MethodType.methodType(Object.class);
+
+    private static final ClassValue<Supplier<ICommand>> SUPPLIERS = new ClassValue<Supplier<ICommand>>() {
+        @Override
+        protected Supplier<ICommand> computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private CommandSuppliers() {
+    }
+
+    /**
+     * Obtiene el Supplier de una clase de ICommand.
+     *
+     * @param commandClass la clase, con un constructor público sin argumentos
+     * @return el Supplier que crea instancias de la clase
+     * @throws IllegalArgumentException si la clase no tiene un constructor público sin argumentos
+     */
+    public static Supplier<ICommand> of(Class<? extends ICommand> commandClass) {
+        return SUPPLIERS.get(commandClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<ICommand> create(Class<?> type) {
+        MethodHandle constructor;
+        try {
+            constructor = LOOKUP.findConstructor(type, MethodType.methodType(void.class));
+        } catch(NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("La clase " + type.getName() + " no tiene un constructor público sin argumentos", e);
+        }
+        // el Supplier generado se define en el cargador de clases de CommandSuppliers
+        // y solo puede crear instancias de las clases que este resuelve
+        if(!isVisible(type)) return invoking(constructor);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get", SUPPLIER_TYPE, GET_TYPE, constructor, MethodType.methodType(type));
+            return (Supplier<ICommand>) site.getTarget().invokeExact();
+        } catch(Throwable e) {
+            return invoking(constructor);
+        }
+    }
+
+    /**
+     * Crea un Supplier que invoca el constructor con su MethodHandle.
+     *
+     * @param constructor el MethodHandle del constructor sin argumentos
+     * @return el Supplier
+     */
+    private static Supplier<ICommand> invoking(MethodHandle constructor) {
+        MethodHandle handle = constructor.asType(MethodType.methodType(ICommand.class));
+        return () -> {
+            try {
+                return (ICommand) handle.invokeExact();
+            } catch(RuntimeException | Error error) {
+                throw error;
+            } catch(Throwable error) {
+                throw new IllegalStateException(error);
+            }
+        };
+    }
+
+    /**
+     * Indica si el nombre de la clase se resuelve a la misma clase desde el
+     * cargador de clases de CommandSuppliers, donde se define el Supplier generado.
+     * No lo es, por ejemplo, para los ICommands de un plugin o un contenedor
+     * cargados por un cargador de clases hijo.
+     *
+     * @param type la clase del ICommand
+     * @return si el Supplier generado puede crear instancias de la clase
+     */
+    private static boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, CommandSuppliers.class.getClassLoader()) == type;
+        } catch(ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -11,7 +11,11 @@ import org.puremvc.java.multicore.interfaces.ICommand;
 import org.puremvc.java.multicore.interfaces.INotification;
 import org.puremvc.java.multicore.patterns.observer.Notifier;
 
-import java.util.Vector;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 /**
@@ -31,6 +35,14 @@ import java.util.function.Supplier;
  * llamando a addSubCommand una vez por cada SubCommand
  * que se va a ejecutar.
  *
+ * Al terminar el constructor, los SubCommands quedan en un plan inmutable:
+ * execute no lo modifica, así que un MacroCommand puede ejecutarse varias
+ * veces y compartirse entre hilos (por ejemplo con SharedCommandProvider).
+ * initializeMacroCommand se llama en cada instancia, así que puede agregar
+ * SubCommands según una condición o la configuración. Si solo agrega
+ * SubCommands por clase y el resultado es igual al de la instancia anterior,
+ * la instancia comparte ese mismo arreglo en lugar de guardar uno propio.
+ *
  * @see org.puremvc.java.multicore.core.Controller Controlador
  * @see org.puremvc.java.multicore.patterns.observer.Notification Notificación
  * @see org.puremvc.java.multicore.patterns.command.SimpleCommand SimpleCommand
@@ -38,12 +50,26 @@ import java.util.function.Supplier;
 
 public class MacroCommand extends Notifier implements ICommand {
 
-    /**Un vector de un supplier que es una interfaz que representa una función
-     * no toma argumentos y devuelve un resultado, en este caso una instancia 
+    // Último plan declarado por clase de cada clase de MacroCommand, para compartirlo entre instancias
+    private static final ClassValue<AtomicReference<Supplier<ICommand>[]>> PLANS = new ClassValue<AtomicReference<Supplier<ICommand>[]>>() {
+        @Override
+        protected AtomicReference<Supplier<ICommand>[]> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    /**Un arreglo inmutable de suppliers, una interfaz que representa una función
+     * que no toma argumentos y devuelve un resultado, en este caso una instancia
      * de la clase que implementa ICommand
      */
 
-    private Vector<Supplier<ICommand>> subCommands;
+    private final Supplier<ICommand>[] subCommands;
+
+    // SubCommands agregados durante initializeMacroCommand; null después del constructor
+    private List<Supplier<ICommand>> pending;
+
+    // si todos los SubCommands agregados durante la inicialización son por clase
+    private boolean declaredByClass = true;
 
     /**
      * Constructor.
@@ -56,8 +82,10 @@ public class MacroCommand extends Notifier implements ICommand {
      */
 
     public MacroCommand() {
-        subCommands = new Vector<Supplier<ICommand>>();
-         initializeMacroCommand();
+        pending = new ArrayList<>();
+        initializeMacroCommand();
+        subCommands = declaredByClass && !pending.isEmpty() ? sharedPlan(pending) : toPlan(pending);
+        pending = null;
     }
 
     /**
@@ -72,8 +100,8 @@ public class MacroCommand extends Notifier implements ICommand {
      * {@code // Inicializa MyMacroCommand
      * protected void initializeMacroCommand( )
      * {
-     *      addSubCommand( () -> new com.me.myapp.controller.FirstCommand() );
-     *      addSubCommand( () -> new com.me.myapp.controller.SecondCommand() );
+     *      addSubCommand( com.me.myapp.controller.FirstCommand.class );
+     *      addSubCommand( com.me.myapp.controller.SecondCommand.class );
      *      addSubCommand( () -> new com.me.myapp.controller.ThirdCommand() );
      * }
      * }
@@ -90,39 +118,92 @@ public class MacroCommand extends Notifier implements ICommand {
      * Agrega un SubCommand.
      *
      * Los SubCommands se llamarán en orden de Primero en Entrar/Primero en Salir (FIFO).
+     * Si factory es un ICommandProvider, sus instancias se obtienen con acquire
+     * y se devuelven con release, como en el Controller.
      *
-     *  factory una referencia a la fábrica del ICommand
+     * @param factory una referencia a la fábrica del ICommand
+     * @throws IllegalStateException si se llama después del constructor
      */
 
     protected void addSubCommand(Supplier<ICommand> factory) {
-        subCommands.add(factory);
+        add(factory);
+        declaredByClass = false;
+    }
+
+    /**
+     * Agrega un SubCommand por clase.
+     *
+     * Las instancias se crean con el mismo Supplier generado que usa el
+     * Controller para registerCommand con una clase.
+     *
+     * @param commandClass la clase del ICommand, con un constructor público sin argumentos
+     * @throws IllegalStateException si se llama después del constructor
+     * @see CommandSuppliers CommandSuppliers
+     */
+
+    protected void addSubCommand(Class<? extends ICommand> commandClass) {
+        add(CommandSuppliers.of(commandClass));
+    }
+
+    private void add(Supplier<ICommand> factory) {
+        if(pending == null) throw new IllegalStateException("El plan de " + getClass().getName() + " ya está cerrado");
+        pending.add(factory);
     }
 
     /**
      * Ejecuta los SubCommands de este MacroCommand.
      *
      * Los SubCommands se llamarán en orden de Primero en Entrar/Primero en Salir.
-     * ICommand command = subCommands.remove(0).get(); Aquí se extrae el primer comando
-     * de la lista subCommands y se guarda en la variable command.
-     * La llamada a remove(0) elimina el primer elemento de la lista y get()
-     * devuelve el comando almacenado en ese elemento.
-     *
-     * command.initializeNotifier(multitonKey);: Este método se llama para inicializar el comando
-     * con el multitonKey de la aplicación. El multitonKey es una clave única que identifica la instancia
-     * de la aplicación en el patrón PureMVC
+     * Para cada uno se obtiene una instancia nueva de su supplier (o del
+     * ICommandProvider), se inicializa con el multitonKey de este MacroCommand
+     * y se llama a su método execute con la notificación recibida. Si el
+     * SubCommand es un IAsyncCommand, se espera a que termine su CompletionStage
+     * antes de pasar al siguiente, y su error se lanza como el de un SubCommand
+     * síncrono.
      *
-     * command.execute(notification);: Finalmente, se ejecuta el comando llamando a su método execute
-     * y pasándole la notificación recibida como argumento. La notificación contiene información
-     * sobre el evento que desencadenó la ejecución del comando.
+     * El plan no se modifica, de modo que el MacroCommand puede volver a ejecutarse.
      *
      * @param notification el objeto INotification que se pasará a cada SubCommand.
      */
 
     public void execute(INotification notification) {
-        while(!subCommands.isEmpty()) {
-             ICommand command = subCommands.remove(0).get();
-            command.initializeNotifier(multitonKey);
-            command.execute(notification);
+        for(Supplier<ICommand> factory : subCommands) {
+            CommandExecutions.join(executeSubCommand(factory, multitonKey, notification));
         }
     }
+
+    /**
+     * Crea, inicializa y ejecuta un SubCommand.
+     *
+     * @param factory el supplier o ICommandProvider del SubCommand
+     * @param multitonKey la clave Multiton del Core
+     * @param notification la INotification a pasar al SubCommand
+     * @return un CompletableFuture que se completa cuando termina el SubCommand, también si es un IAsyncCommand
+     */
+
+    static CompletableFuture<Object> executeSubCommand(Supplier<ICommand> factory, String multitonKey, INotification notification) {
+        return CommandExecutions.execute(factory, multitonKey, notification);
+    }
+
+    /**
+     * Obtiene el plan compartido de la clase si tiene los mismos SubCommands,
+     * o compila uno nuevo y lo deja como plan compartido de la clase.
+     *
+     * @param subCommands los SubCommands agregados por clase durante la inicialización
+     * @return el plan inmutable
+     */
+
+    private Supplier<ICommand>[] sharedPlan(List<Supplier<ICommand>> subCommands) {
+        AtomicReference<Supplier<ICommand>[]> shared = PLANS.get(getClass());
+        Supplier<ICommand>[] plan = shared.get();
+        if(plan != null && Arrays.asList(plan).equals(subCommands)) return plan;
+        plan = toPlan(subCommands);
+        shared.set(plan);
+        return plan;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<ICommand>[] toPlan(List<Supplier<ICommand>> subCommands) {
+        return subCommands.toArray((Supplier<ICommand>[]) new Supplier<?>[0]);
+    }
 }
@@ -0,0 +1,43 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.IMemoizedCommand;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.observer.Notifier;
+
+/**
+ * Una implementación base de IMemoizedCommand.
+ *
+ * Su subclase debe anular compute, con la lógica de negocio que depende solo
+ * del cuerpo de la INotification, y publish, que comunica el resultado.
+ *
+ * @see org.puremvc.java.multicore.core.Controller Controller
+ * @see SimpleCommand SimpleCommand
+ */
+
+public abstract class MemoizedCommand extends Notifier implements IMemoizedCommand {
+
+    /**
+     * Calcula el resultado del caso de uso iniciado por la INotification dada.
+     *
+     * @param notification la <code>INotification</code> a manejar.
+     * @return el resultado, que puede ser null
+     */
+
+    public abstract Object compute(INotification notification);
+
+    /**
+     * Comunica el resultado del caso de uso.
+     *
+     * @param notification la <code>INotification</code> a manejar.
+     * @param result el resultado de compute
+     */
+
+    public abstract void publish(INotification notification, Object result);
+}
@@ -0,0 +1,208 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.ICommand;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.observer.Notifier;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Un ICommand que ejecuta sus SubCommands en paralelo según sus dependencias.
+ *
+ * Cada SubCommand tiene un nombre y declara de qué SubCommands (agregados
+ * antes) depende. Al ejecutarse, cada SubCommand comienza en el Executor en
+ * cuanto terminan sus dependencias, de modo que las ramas independientes
+ * corren a la vez y la duración total es la de la rama más larga. Un
+ * IAsyncCommand termina cuando se completa su CompletionStage. execute
+ * retorna cuando todos terminaron.
+ *
+ * <pre>
+ * {@code
+ * protected void initializeMacroCommand() {
+ *     addSubCommand("config", LoadConfigCommand.class);
+ *     addSubCommand("users", LoadUsersCommand.class, "config");
+ *     addSubCommand("catalog", LoadCatalogCommand.class, "config");
+ *     addSubCommand("ready", StartupDoneCommand.class, "users", "catalog");
+ * }
+ * }
+ * </pre>
+ *
+ * Si un SubCommand falla, los que aún no comenzaron se cancelan, se espera a
+ * que terminen los que ya estaban en ejecución y execute lanza el primer error.
+ *
+ * Como MacroCommand, el plan queda inmutable al terminar el constructor y la
+ * instancia puede ejecutarse varias veces.
+ *
+ * @see MacroCommand MacroCommand
+ */
+public class ParallelMacroCommand extends Notifier implements ICommand {
+
+    // SubCommands en orden de declaración; las dependencias siempre apuntan a posiciones anteriores
+    private final Node[] plan;
+
+    // SubCommands y nombres agregados durante initializeMacroCommand; null después del constructor
+    private List<Node> pending;
+
+    private Map<String, Integer> index;
+
+    /**
+     * Constructor.
+     *
+     * No deberías necesitar definir un constructor,
+     * en su lugar, anula el método initializeMacroCommand.
+     */
+    public ParallelMacroCommand() {
+        pending = new ArrayList<>();
+        index = new HashMap<>();
+        initializeMacroCommand();
+        plan = pending.toArray(new Node[0]);
+        pending = null;
+        index = null;
+    }
+
+    /**
+     * Inicializa el ParallelMacroCommand.
+     *
+     * En tu subclase, anula este método para agregar los SubCommands
+     * con addSubCommand.
+     */
+    protected void initializeMacroCommand() {
+    }
+
+    /**
+     * Obtiene el Executor donde se ejecutan los SubCommands.
+     *
+     * Por defecto es ForkJoinPool.commonPool(); una subclase puede
+     * anularlo para usar, por ejemplo, un pool para E/S.
+     *
+     * @return el Executor de los SubCommands
+     */
+    protected Executor getExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Agrega un SubCommand.
+     *
+     * @param name el nombre del SubCommand, único en este ParallelMacroCommand
+     * @param factory una referencia a la fábrica del ICommand
+     * @param dependsOn los nombres de los SubCommands, ya agregados, que deben terminar antes
+     * @throws IllegalArgumentException si el nombre está repetido o una dependencia no fue agregada
+     * @throws IllegalStateException si se llama después del constructor
+     */
+    protected void addSubCommand(String name, Supplier<ICommand> factory, String... dependsOn) {
+        if(pending == null) throw new IllegalStateException("El plan de " + getClass().getName() + " ya está cerrado");
+        if(index.containsKey(name)) throw new IllegalArgumentException("SubCommand repetido: " + name);
+        int[] dependencies = new int[dependsOn.length];
+        for(int i = 0; i < dependsOn.length; i++) {
+            Integer dependency = index.get(dependsOn[i]);
+            if(dependency == null) throw new IllegalArgumentException("El SubCommand " + name + " depende de " + dependsOn[i] + ", que no fue agregado antes");
+            dependencies[i] = dependency;
+        }
+        index.put(name, pending.size());
+        pending.add(new Node(factory, dependencies));
+    }
+
+    /**
+     * Agrega un SubCommand por clase.
+     *
+     * @param name el nombre del SubCommand, único en este ParallelMacroCommand
+     * @param commandClass la clase del ICommand, con un constructor público sin argumentos
+     * @param dependsOn los nombres de los SubCommands, ya agregados, que deben terminar antes
+     * @see CommandSuppliers CommandSuppliers
+     */
+    protected void addSubCommand(String name, Class<? extends ICommand> commandClass, String... dependsOn) {
+        addSubCommand(name, CommandSuppliers.of(commandClass), dependsOn);
+    }
+
+    /**
+     * Ejecuta los SubCommands en paralelo respetando sus dependencias
+     * y espera a que todos terminen.
+     *
+     * @param notification el objeto INotification que se pasará a cada SubCommand.
+     * @throws RuntimeException el primer error lanzado por un SubCommand
+     */
+    public void execute(INotification notification) {
+        Executor executor = getExecutor();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[plan.length];
+        for(int i = 0; i < futures.length; i++) {
+            Node node = plan[i];
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            CompletableFuture<?>[] dependencies = new CompletableFuture<?>[node.dependencies.length];
+            for(int d = 0; d < dependencies.length; d++) {
+                dependencies[d] = futures[node.dependencies[d]];
+            }
+            CompletableFuture.allOf(dependencies).whenComplete((result, error) -> {
+                if(error != null || failure.get() != null) {
+                    future.completeExceptionally(new CancellationException());
+                    return;
+                }
+                try {
+                    executor.execute(() -> {
+                        if(failure.get() != null) {
+                            future.completeExceptionally(new CancellationException());
+                            return;
+                        }
+                        try {
+                            // un IAsyncCommand termina cuando se completa su CompletionStage
+                            MacroCommand.executeSubCommand(node.factory, multitonKey, notification).whenComplete((ignored, stageError) -> {
+                                if(stageError == null) {
+                                    future.complete(null);
+                                } else {
+                                    Throwable t = CommandExecutions.unwrap(stageError);
+                                    failure.compareAndSet(null, t);
+                                    future.completeExceptionally(t);
+                                }
+                            });
+                        } catch(Throwable t) {
+                            failure.compareAndSet(null, t);
+                            future.completeExceptionally(t);
+                        }
+                    });
+                } catch(RuntimeException rejected) {
+                    failure.compareAndSet(null, rejected);
+                    future.completeExceptionally(rejected);
+                }
+            });
+            futures[i] = future;
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch(CompletionException | CancellationException e) {
+            // el error se informa abajo
+        }
+        Throwable error = failure.get();
+        if(error instanceof RuntimeException) throw (RuntimeException) error;
+        if(error instanceof Error) throw (Error) error;
+        if(error != null) throw new CompletionException(error);
+    }
+
+    private static final class Node {
+        final Supplier<ICommand> factory;
+        final int[] dependencies;
+
+        Node(Supplier<ICommand> factory, int[] dependencies) {
+            this.factory = factory;
+            this.dependencies = dependencies;
+        }
+    }
+}
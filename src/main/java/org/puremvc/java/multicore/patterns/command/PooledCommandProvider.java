@@ -0,0 +1,134 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.ICommand;
+import org.puremvc.java.multicore.interfaces.ICommandProvider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Un ICommandProvider que reutiliza instancias de ICommands con estado.
+ *
+ * Cada ejecución obtiene una instancia libre del pool (o crea una nueva si no
+ * hay) para uso exclusivo. Al terminar, el gancho de reinicio limpia su estado
+ * y la instancia vuelve al pool, que guarda como máximo maxIdle instancias;
+ * las sobrantes se descartan.
+ *
+ * El pool es un arreglo preasignado de maxIdle casillas, así que obtener y
+ * devolver una instancia no asigna memoria. Solo se acota la cantidad de
+ * instancias libres: con más ejecuciones simultáneas que maxIdle se crean
+ * instancias nuevas, que se descartan al devolverse si el pool está lleno.
+ *
+ * {@code
+ *   registerCommand(SAVE, new PooledCommandProvider(() -> new SaveCommand(), 16, command -> ((SaveCommand) command).clear()));
+ * }
+ *
+ * @see SharedCommandProvider SharedCommandProvider
+ */
+public class PooledCommandProvider implements ICommandProvider {
+
+    private final Supplier<? extends ICommand> factory;
+
+    private final int maxIdle;
+
+    private final Consumer<? super ICommand> reset;
+
+    // casillas de las instancias libres; null si la casilla está vacía
+    private final AtomicReferenceArray<ICommand> idle;
+
+    // instancias libres, contando las que se están devolviendo; nunca menos que las casillas ocupadas
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param factory el supplier que crea las instancias
+     * @param maxIdle la cantidad máxima de instancias libres en el pool
+     * @param reset el gancho que limpia el estado de una instancia antes de volver al pool, puede ser null
+     */
+    public PooledCommandProvider(Supplier<? extends ICommand> factory, int maxIdle, Consumer<? super ICommand> reset) {
+        if(maxIdle < 1) throw new IllegalArgumentException("El tamaño del pool debe ser positivo: " + maxIdle);
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+        this.reset = reset;
+        idle = new AtomicReferenceArray<>(maxIdle);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param factory el supplier que crea las instancias
+     * @param maxIdle la cantidad máxima de instancias libres en el pool
+     */
+    public PooledCommandProvider(Supplier<? extends ICommand> factory, int maxIdle) {
+        this(factory, maxIdle, null);
+    }
+
+    /**
+     * Obtiene una instancia libre del pool, o una nueva si no hay.
+     *
+     * @param multitonKey la clave Multiton del Core
+     * @return una instancia para uso exclusivo hasta llamar a release
+     */
+    public ICommand acquire(String multitonKey) {
+        ICommand command = idleCount.get() > 0 ? take() : null;
+        if(command == null) command = factory.get();
+        command.initializeNotifier(multitonKey);
+        return command;
+    }
+
+    /**
+     * Reinicia una instancia y la devuelve al pool si hay lugar.
+     *
+     * @param command la instancia obtenida con acquire
+     */
+    public void release(ICommand command) {
+        if(reset != null) reset.accept(command);
+        if(idleCount.incrementAndGet() > maxIdle) {
+            idleCount.decrementAndGet();
+            return;
+        }
+        // la reserva garantiza una casilla vacía, aunque otro hilo la ocupe primero
+        for(int i = 0; ; i = i + 1 < maxIdle ? i + 1 : 0) {
+            if(idle.get(i) == null && idle.compareAndSet(i, null, command)) return;
+        }
+    }
+
+    private ICommand take() {
+        for(int i = 0; i < maxIdle; i++) {
+            ICommand command = idle.get(i);
+            if(command != null && idle.compareAndSet(i, command, null)) {
+                idleCount.decrementAndGet();
+                return command;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Crea una instancia nueva, sin inicializar.
+     *
+     * @return una instancia de ICommand
+     */
+    public ICommand get() {
+        return factory.get();
+    }
+
+    /**
+     * Obtiene la cantidad de instancias libres en el pool.
+     *
+     * @return la cantidad de instancias libres
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+}
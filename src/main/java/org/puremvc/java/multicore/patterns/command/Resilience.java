@@ -0,0 +1,134 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.ICommand;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Una política de reintentos y circuito para un ICommand que falla de forma
+ * intermitente, por ejemplo al usar un IProxy lento.
+ *
+ * - retry: si el ICommand lanza una excepción, se vuelve a ejecutar hasta
+ *   maxAttempts veces en total, esperando un tiempo aleatorio entre 0 y un
+ *   límite que se duplica en cada intento (backoff exponencial con jitter).
+ *   La espera se programa en SharedScheduler, sin ocupar el hilo del
+ *   emisor, y el reintento se ejecuta en el Executor de withExecutor o, si
+ *   no hay uno, donde el Core despacha su trabajo: el bucle de eventos con el
+ *   modo actor activo, el Executor del Core, o ForkJoinPool.commonPool() si
+ *   el Core no tiene ninguno. Para que los reintentos respeten un Bulkhead,
+ *   aplica la Resilience al supplier ya envuelto por el Bulkhead.
+ *
+ * - withCircuitBreaker: después de failureThreshold fallos seguidos para un
+ *   nombre de notificación, el circuito se abre y las INotifications se
+ *   rechazan sin ejecutar el ICommand durante el tiempo de apertura.
+ *
+ * {@code
+ *   controller.registerCommand("loadUser", LoadUserCommand::new,
+ *           Resilience.retry(3, 50, 2000, TimeUnit.MILLISECONDS).withCircuitBreaker(5, 10, TimeUnit.SECONDS));
+ * }
+ *
+ * Cada cambio de estado del circuito envía CIRCUIT_STATE_CHANGED con el nombre
+ * de la notificación como cuerpo y el CircuitState como tipo, para que los
+ * Mediators dejen de enviar trabajo mientras el circuito está abierto.
+ *
+ * El ICommand resultante es un IAsyncCommand: el IController sigue cada
+ * ejecución, con sus reintentos, como una ejecución en curso.
+ *
+ * @see CircuitState CircuitState
+ * @see org.puremvc.java.multicore.interfaces.IController#registerCommand(String, Supplier, Resilience) IController.registerCommand
+ */
+public final class Resilience {
+
+    /**
+     * Nombre de la notificación enviada cuando cambia el estado de un circuito.
+     */
+    public static final String CIRCUIT_STATE_CHANGED = "PureMVC.circuitStateChanged";
+
+    final int maxAttempts;
+    final long initialBackoffNanos;
+    final long maxBackoffNanos;
+    final int failureThreshold;
+    final long openNanos;
+    final Executor executor;
+
+    private Resilience(int maxAttempts, long initialBackoffNanos, long maxBackoffNanos, int failureThreshold, long openNanos, Executor executor) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoffNanos;
+        this.maxBackoffNanos = maxBackoffNanos;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+        this.executor = executor;
+    }
+
+    /**
+     * Crea una política de reintentos con backoff exponencial y jitter.
+     *
+     * @param maxAttempts la cantidad máxima de ejecuciones, incluida la primera
+     * @param initialBackoff el límite de la espera antes del primer reintento
+     * @param maxBackoff el límite máximo de la espera entre reintentos
+     * @param unit la unidad de initialBackoff y maxBackoff
+     * @return la Resilience
+     */
+    public static Resilience retry(int maxAttempts, long initialBackoff, long maxBackoff, TimeUnit unit) {
+        if(maxAttempts < 1) throw new IllegalArgumentException("La cantidad de intentos debe ser positiva: " + maxAttempts);
+        if(initialBackoff < 0 || maxBackoff < initialBackoff) throw new IllegalArgumentException("Los tiempos de espera no son válidos");
+        return new Resilience(maxAttempts, unit.toNanos(initialBackoff), unit.toNanos(maxBackoff), 0, 0, null);
+    }
+
+    /**
+     * Crea una política con circuito y sin reintentos.
+     *
+     * @param failureThreshold la cantidad de fallos seguidos que abre el circuito
+     * @param openDuration el tiempo que el circuito queda abierto
+     * @param unit la unidad de openDuration
+     * @return la Resilience
+     */
+    public static Resilience circuitBreaker(int failureThreshold, long openDuration, TimeUnit unit) {
+        return retry(1, 0, 0, unit).withCircuitBreaker(failureThreshold, openDuration, unit);
+    }
+
+    /**
+     * Agrega un circuito a esta política.
+     *
+     * @param failureThreshold la cantidad de fallos seguidos que abre el circuito
+     * @param openDuration el tiempo que el circuito queda abierto
+     * @param unit la unidad de openDuration
+     * @return una nueva Resilience con los mismos reintentos y el circuito
+     */
+    public Resilience withCircuitBreaker(int failureThreshold, long openDuration, TimeUnit unit) {
+        if(failureThreshold < 1 || openDuration <= 0) throw new IllegalArgumentException("El umbral y el tiempo de apertura deben ser positivos");
+        return new Resilience(maxAttempts, initialBackoffNanos, maxBackoffNanos, failureThreshold, unit.toNanos(openDuration), executor);
+    }
+
+    /**
+     * Establece el Executor de los reintentos.
+     *
+     * @param executor el Executor, o null para usar el del Core
+     * @return una nueva Resilience con los mismos reintentos y circuito
+     */
+    public Resilience withExecutor(Executor executor) {
+        return new Resilience(maxAttempts, initialBackoffNanos, maxBackoffNanos, failureThreshold, openNanos, executor);
+    }
+
+    /**
+     * Envuelve un supplier de ICommand con esta política.
+     *
+     * Cada llamada crea circuitos nuevos, de modo que una misma Resilience
+     * puede usarse en varios registros.
+     *
+     * @param commandSupplier el supplier del ICommand a proteger
+     * @return el supplier protegido
+     */
+    public ResilientCommandSupplier apply(Supplier<ICommand> commandSupplier) {
+        return new ResilientCommandSupplier(commandSupplier, this);
+    }
+}
@@ -0,0 +1,154 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.IAsyncCommand;
+import org.puremvc.java.multicore.interfaces.ICommand;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+import org.puremvc.java.multicore.patterns.observer.Notifier;
+import org.puremvc.java.multicore.patterns.observer.SharedScheduler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Un supplier de ICommand protegido con una Resilience.
+ *
+ * Crea IAsyncCommands que ejecutan el ICommand original aplicando los
+ * reintentos y el circuito de la política. Los circuitos se llevan por
+ * Core y nombre de notificación, de modo que dos Cores que comparten el
+ * supplier no abren el circuito del otro.
+ *
+ * @see Resilience Resilience
+ */
+public final class ResilientCommandSupplier implements Supplier<ICommand> {
+
+    private final Supplier<ICommand> commandSupplier;
+
+    private final Resilience resilience;
+
+    // circuitos por clave Multiton y nombre de notificación
+    private final ConcurrentMap<String, ConcurrentMap<String, CircuitBreaker>> breakers = new ConcurrentHashMap<>();
+
+    ResilientCommandSupplier(Supplier<ICommand> commandSupplier, Resilience resilience) {
+        this.commandSupplier = commandSupplier;
+        this.resilience = resilience;
+    }
+
+    /**
+     * Crea un ICommand protegido.
+     *
+     * @return el ICommand protegido
+     */
+    public ICommand get() {
+        return new ResilientCommand();
+    }
+
+    /**
+     * Obtiene el estado del circuito para un nombre de notificación en un Core.
+     *
+     * @param multitonKey la clave Multiton del Core
+     * @param notificationName el nombre de la notificación
+     * @return el estado del circuito, CLOSED si la política no tiene circuito
+     */
+    public CircuitState getCircuitState(String multitonKey, String notificationName) {
+        ConcurrentMap<String, CircuitBreaker> core = breakers.get(multitonKey);
+        CircuitBreaker breaker = core != null ? core.get(notificationName) : null;
+        return breaker != null ? breaker.getState() : CircuitState.CLOSED;
+    }
+
+    private CircuitBreaker breaker(String multitonKey, String notificationName) {
+        if(resilience.failureThreshold == 0) return null;
+        return breakers.computeIfAbsent(multitonKey, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(notificationName, name -> new CircuitBreaker(resilience.failureThreshold, resilience.openNanos));
+    }
+
+    // límite aleatorio de la espera antes del intento siguiente a attempt
+    private long backoffNanos(int attempt) {
+        long limit = resilience.initialBackoffNanos;
+        for(int i = 1; i < attempt && limit < resilience.maxBackoffNanos; i++) limit <<= 1;
+        limit = Math.min(limit, resilience.maxBackoffNanos);
+        return limit > 0 ? ThreadLocalRandom.current().nextLong(limit + 1) : 0;
+    }
+
+    private final class ResilientCommand extends Notifier implements IAsyncCommand {
+
+        public CompletionStage<?> executeAsync(INotification notification) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            run(1, breaker(multitonKey, notification.getName()), notification, future);
+            return future;
+        }
+
+        private void run(int attempt, CircuitBreaker breaker, INotification notification, CompletableFuture<Object> future) {
+            if(future.isDone()) return;
+            if(breaker != null) {
+                CircuitState[] transition = new CircuitState[1];
+                boolean allowed = breaker.allow(transition);
+                announce(notification, transition[0]);
+                if(!allowed) {
+                    future.completeExceptionally(new RejectedExecutionException("Circuito abierto para " + notification.getName()));
+                    return;
+                }
+            }
+            attempt(notification).whenComplete((result, error) -> {
+                if(error == null) {
+                    if(breaker != null) announce(notification, breaker.onSuccess());
+                    future.complete(result);
+                    return;
+                }
+                if(breaker != null) announce(notification, breaker.onFailure());
+                if(attempt >= resilience.maxAttempts || future.isDone()) {
+                    future.completeExceptionally(CommandExecutions.unwrap(error));
+                    return;
+                }
+                SharedScheduler.get().schedule(() -> retry(attempt + 1, breaker, notification, future), backoffNanos(attempt), TimeUnit.NANOSECONDS);
+            });
+        }
+
+        // el reintento no corre en el hilo de SharedScheduler sino donde el Core despacha su trabajo;
+        // si el Core fue eliminado, se abandona sin volver a crearlo
+        private void retry(int attempt, CircuitBreaker breaker, INotification notification, CompletableFuture<Object> future) {
+            if(!Facade.hasCore(multitonKey)) {
+                future.completeExceptionally(new RejectedExecutionException("El Core " + multitonKey + " fue eliminado"));
+                return;
+            }
+            Executor executor = resilience.executor;
+            if(executor == null) executor = getFacade().getDispatchExecutor();
+            if(executor == null) executor = ForkJoinPool.commonPool();
+            try {
+                executor.execute(() -> run(attempt, breaker, notification, future));
+            } catch(RejectedExecutionException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        private CompletableFuture<?> attempt(INotification notification) {
+            try {
+                return CommandExecutions.execute(commandSupplier, multitonKey, notification);
+            } catch(Throwable t) {
+                // también los Errors, para que cuenten como un intento fallido
+                CompletableFuture<Object> failed = new CompletableFuture<>();
+                failed.completeExceptionally(t);
+                return failed;
+            }
+        }
+
+        private void announce(INotification notification, CircuitState state) {
+            if(state != null && Facade.hasCore(multitonKey)) sendNotification(Resilience.CIRCUIT_STATE_CHANGED, notification.getName(), state.name());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+/**
+ * Una instantánea de los contadores de la caché de resultados de una notificación.
+ *
+ * @see org.puremvc.java.multicore.interfaces.IMemoizedCommand IMemoizedCommand
+ */
+public final class ResultCacheStats {
+
+    private final int capacity;
+    private final int size;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long invalidations;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity la cantidad máxima de resultados guardados
+     * @param size la cantidad de resultados guardados
+     * @param hits la cantidad de ejecuciones que usaron un resultado guardado
+     * @param misses la cantidad de ejecuciones que calcularon el resultado
+     * @param evictions la cantidad de resultados descartados por falta de lugar
+     * @param invalidations la cantidad de veces que se vació la caché
+     */
+    public ResultCacheStats(int capacity, int size, long hits, long misses, long evictions, long invalidations) {
+        this.capacity = capacity;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+    }
+
+    /**
+     * @return la cantidad máxima de resultados guardados
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return la cantidad de resultados guardados al tomar la instantánea
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return la cantidad de ejecuciones que usaron un resultado guardado
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return la cantidad de ejecuciones que calcularon el resultado
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return la cantidad de resultados descartados por falta de lugar
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return la cantidad de veces que se vació la caché
+     */
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    /**
+     * @return la representación en cadena de los contadores
+     */
+    public String toString() {
+        return "ResultCacheStats capacity=" + capacity + " size=" + size + " hits=" + hits
+                + " misses=" + misses + " evictions=" + evictions + " invalidations=" + invalidations;
+    }
+}
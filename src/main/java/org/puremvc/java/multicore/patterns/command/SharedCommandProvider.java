@@ -0,0 +1,78 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.ICommand;
+import org.puremvc.java.multicore.interfaces.ICommandProvider;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Un ICommandProvider para ICommands sin estado.
+ *
+ * Crea e inicializa una sola instancia por Core y la reutiliza en cada
+ * INotification, incluso desde varios hilos a la vez, por lo que el ICommand
+ * no debe guardar estado entre ejecuciones:
+ *
+ * {@code
+ *   registerCommand(STARTUP, new SharedCommandProvider(() -> new StartupCommand()));
+ * }
+ *
+ * @see PooledCommandProvider PooledCommandProvider
+ */
+public class SharedCommandProvider implements ICommandProvider {
+
+    private final Supplier<? extends ICommand> factory;
+
+    // instancia compartida por clave Multiton
+    private final ConcurrentMap<String, ICommand> instances = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param factory el supplier que crea la instancia compartida
+     */
+    public SharedCommandProvider(Supplier<? extends ICommand> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Obtiene la instancia compartida del Core, creándola en el primer uso.
+     *
+     * @param multitonKey la clave Multiton del Core
+     * @return la instancia compartida
+     */
+    public ICommand acquire(String multitonKey) {
+        ICommand command = instances.get(multitonKey);
+        return command != null ? command : instances.computeIfAbsent(multitonKey, key -> {
+            ICommand instance = factory.get();
+            instance.initializeNotifier(key);
+            return instance;
+        });
+    }
+
+    /**
+     * Descarta la instancia compartida de un Core.
+     *
+     * @param multitonKey la clave Multiton del Core
+     */
+    public void dispose(String multitonKey) {
+        instances.remove(multitonKey);
+    }
+
+    /**
+     * Crea una instancia nueva, sin inicializar.
+     *
+     * @return una instancia de ICommand
+     */
+    public ICommand get() {
+        return factory.get();
+    }
+}
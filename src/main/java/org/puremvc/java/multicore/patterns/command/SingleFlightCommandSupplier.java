@@ -0,0 +1,171 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.IAsyncCommand;
+import org.puremvc.java.multicore.interfaces.ICommand;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.observer.Notifier;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Un supplier de ICommand que agrupa las ejecuciones simultáneas con la misma clave.
+ *
+ * La clave se obtiene de cada INotification con keyExtractor. Si llega una
+ * INotification mientras hay una ejecución en curso con la misma clave, el
+ * ICommand no se vuelve a ejecutar:
+ *
+ * - si es un ICommand síncrono, el emisor espera a que termine la ejecución
+ *   en curso y recibe su misma excepción, si la hubo;
+ *
+ * - si es un IAsyncCommand, el emisor comparte la CompletionStage en curso.
+ *
+ * {@code
+ *   controller.registerCommand("loadCustomer",
+ *           new SingleFlightCommandSupplier(LoadCustomerCommand::new, notification -> notification.getBody()));
+ * }
+ *
+ * Las claves son propias de cada Core: dos Cores que registran el mismo
+ * supplier no comparten ejecuciones. Una INotification cuya clave es null
+ * se ejecuta siempre. Las INotifications
+ * enviadas por el propio ICommand mientras se ejecuta su execute, en el mismo
+ * hilo, no se agrupan con ella.
+ *
+ * @see org.puremvc.java.multicore.core.Controller Controller
+ */
+public final class SingleFlightCommandSupplier implements Supplier<ICommand> {
+
+    private final Supplier<ICommand> commandSupplier;
+
+    private final Function<INotification, ?> keyExtractor;
+
+    private final ConcurrentMap<FlightKey, Flight> flights = new ConcurrentHashMap<>();
+
+    private final LongAdder collapsed = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param commandSupplier el supplier del ICommand
+     * @param keyExtractor la función que obtiene la clave de una INotification
+     */
+    public SingleFlightCommandSupplier(Supplier<ICommand> commandSupplier, Function<INotification, ?> keyExtractor) {
+        this.commandSupplier = commandSupplier;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Crea un ICommand que agrupa las ejecuciones simultáneas.
+     *
+     * @return el ICommand
+     */
+    public ICommand get() {
+        return new SingleFlightCommand();
+    }
+
+    /**
+     * Obtiene la cantidad de INotifications que usaron una ejecución en curso.
+     *
+     * @return la cantidad de ejecuciones evitadas
+     */
+    public long getCollapsedCount() {
+        return collapsed.sum();
+    }
+
+    /**
+     * Obtiene la cantidad de claves con una ejecución en curso.
+     *
+     * @return la cantidad de ejecuciones en curso
+     */
+    public int getInFlightCount() {
+        return flights.size();
+    }
+
+    // clave de una ejecución: el Core y la clave de la INotification
+    private static final class FlightKey {
+        final String multitonKey;
+        final Object key;
+
+        FlightKey(String multitonKey, Object key) {
+            this.multitonKey = multitonKey;
+            this.key = key;
+        }
+
+        public boolean equals(Object o) {
+            if(!(o instanceof FlightKey)) return false;
+            FlightKey other = (FlightKey) o;
+            return Objects.equals(multitonKey, other.multitonKey) && key.equals(other.key);
+        }
+
+        public int hashCode() {
+            return 31 * Objects.hashCode(multitonKey) + key.hashCode();
+        }
+    }
+
+    // ejecución en curso para una clave
+    private static final class Flight {
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        // se completa al crear el ICommand, con true si es un IAsyncCommand
+        final CompletableFuture<Boolean> started = new CompletableFuture<>();
+        // el hilo que está ejecutando el ICommand; null cuando execute ya retornó
+        volatile Thread owner = Thread.currentThread();
+    }
+
+    private final class SingleFlightCommand extends Notifier implements IAsyncCommand {
+
+        public CompletionStage<?> executeAsync(INotification notification) {
+            Object value = keyExtractor.apply(notification);
+            if(value == null) return CommandExecutions.execute(commandSupplier, multitonKey, notification);
+            FlightKey key = new FlightKey(multitonKey, value);
+            Flight flight = new Flight();
+            Flight current = flights.putIfAbsent(key, flight);
+            if(current == null) return lead(key, flight, notification);
+            if(current.owner != Thread.currentThread()) return share(current);
+            return CommandExecutions.execute(commandSupplier, multitonKey, notification);
+        }
+
+        // crea y ejecuta el ICommand para todas las INotifications con la clave
+        private CompletionStage<?> lead(FlightKey key, Flight flight, INotification notification) {
+            CompletableFuture<Object> result;
+            try {
+                result = CommandExecutions.execute(commandSupplier, multitonKey, notification, (command, n) -> {
+                    flight.started.complete(command instanceof IAsyncCommand);
+                    return CommandExecutions.run(command, n);
+                });
+            } catch(Throwable t) {
+                // también los Errors, para no dejar esperando a las ejecuciones agrupadas
+                result = new CompletableFuture<>();
+                result.completeExceptionally(t);
+            }
+            flight.owner = null;
+            flight.started.complete(false);
+            result.whenComplete((value, error) -> {
+                flights.remove(key, flight);
+                if(error != null) flight.future.completeExceptionally(error);
+                else flight.future.complete(value);
+            });
+            if(!flight.started.join()) CommandExecutions.join(result);
+            return result;
+        }
+
+        private CompletionStage<?> share(Flight current) {
+            collapsed.increment();
+            if(!current.started.join()) CommandExecutions.join(current.future);
+            // una etapa propia, para que cancelarla no cancele la ejecución compartida
+            return current.future.thenApply(value -> value);
+        }
+    }
+}
@@ -11,10 +11,19 @@ import org.puremvc.java.multicore.core.Controller;
 import org.puremvc.java.multicore.core.Model;
 import org.puremvc.java.multicore.core.View;
 import org.puremvc.java.multicore.interfaces.*;
+import org.puremvc.java.multicore.patterns.command.Bulkhead;
+import org.puremvc.java.multicore.patterns.command.CommandSuppliers;
+import org.puremvc.java.multicore.patterns.command.Resilience;
 import org.puremvc.java.multicore.patterns.observer.Notification;
+import org.puremvc.java.multicore.patterns.observer.NotificationRegistry;
+import org.puremvc.java.multicore.patterns.observer.Observer;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -205,6 +214,101 @@ public class Facade implements IFacade {
         controller.removeCommand(notificationName);
     }
 
+    /**
+     * Registre una clase ICommand con el Controller por nombre de notificación.
+
+     * @param notificationName el nombre de la INotification para asociar el ICommand
+     * @param commandClass la clase del ICommand, con un constructor público sin argumentos
+     */
+    public void registerCommand(String notificationName, Class<? extends ICommand> commandClass) {
+        controller.registerCommand(notificationName, CommandSuppliers.of(commandClass));
+    }
+
+    /**
+     * Registre un ICommand protegido con reintentos y un circuito con el Controller.
+
+     * @param notificationName el nombre de la INotification
+     * @param commandSupplier una referencia al proveedor de ICommand
+     * @param resilience la política de reintentos y circuito
+     */
+    public void registerCommand(String notificationName, Supplier<ICommand> commandSupplier, Resilience resilience) {
+        controller.registerCommand(notificationName, resilience.apply(commandSupplier));
+    }
+
+    /**
+     * Registre un ICommand con el Controller para ejecutarse en un Bulkhead registrado.
+     *
+     * El Bulkhead se busca por nombre en cada ejecución.
+
+     * @param notificationName el nombre de la INotification
+     * @param commandSupplier una referencia al proveedor de ICommand
+     * @param bulkheadName el nombre del Bulkhead
+     * @throws UnsupportedOperationException si el IController de este Core no es un Controller
+     * @see Controller#registerBulkheadCommand(String, Supplier, String) Controller.registerBulkheadCommand
+     */
+    public void registerBulkheadCommand(String notificationName, Supplier<ICommand> commandSupplier, String bulkheadName) {
+        bulkheadController().registerBulkheadCommand(notificationName, commandSupplier, bulkheadName);
+    }
+
+    /**
+     * Registre un ICommand con el Controller por identificador de notificación.
+
+     * @param notificationId el identificador de la INotification para asociar el ICommand
+     * @param commandSupplier proveedor que devuelve ICommand
+     */
+    public void registerCommand(int notificationId, Supplier<ICommand> commandSupplier) {
+        controller.registerCommand(notificationId, commandSupplier);
+    }
+
+    /**
+     * Eliminar una asignación ICommand a INotification previamente registrada del Controller.
+
+     * @param notificationId el identificador de la INotification para eliminar la asignación ICommand
+     */
+    public void removeCommand(int notificationId) {
+        controller.removeCommand(notificationId);
+    }
+
+    /**
+     * Agregue un ICommand a los que manejan una notificación, sin reemplazar los registrados.
+
+     * @param notificationName el nombre de la INotification
+     * @param commandSupplier una referencia al proveedor de ICommand
+     */
+    public void addCommand(String notificationName, Supplier<ICommand> commandSupplier) {
+        controller.addCommand(notificationName, commandSupplier);
+    }
+
+    /**
+     * Agregue una clase ICommand a las que manejan una notificación.
+
+     * @param notificationName el nombre de la INotification
+     * @param commandClass la clase del ICommand, con un constructor público sin argumentos
+     */
+    public void addCommand(String notificationName, Class<? extends ICommand> commandClass) {
+        controller.addCommand(notificationName, CommandSuppliers.of(commandClass));
+    }
+
+    /**
+     * Eliminar un único ICommand de los registrados para una notificación.
+
+     * @param notificationName el nombre de la INotification
+     * @param commandSupplier el proveedor de ICommand registrado
+     */
+    public void removeCommand(String notificationName, Supplier<ICommand> commandSupplier) {
+        controller.removeCommand(notificationName, commandSupplier);
+    }
+
+    /**
+     * Eliminar una única clase ICommand de las registradas para una notificación.
+
+     * @param notificationName el nombre de la INotification
+     * @param commandClass la clase del ICommand registrada por clase
+     */
+    public void removeCommand(String notificationName, Class<? extends ICommand> commandClass) {
+        controller.removeCommand(notificationName, CommandSuppliers.of(commandClass));
+    }
+
     /**
      * Comprobar si un Comando está registrado para una Notificación dada
 
@@ -215,6 +319,16 @@ public class Facade implements IFacade {
         return controller.hasCommand(notificationName);
     }
 
+    /**
+     * Comprobar si un Comando está registrado para una Notificación dada
+
+     * @param notificationId identificador de la notificación
+     * @return si hay un Comando registrado actualmente para el notificationId dado.
+     */
+    public boolean hasCommand(int notificationId) {
+        return controller.hasCommand(notificationId);
+    }
+
     /**
      * Registre un IProxy con el Model por nombre.
 
@@ -332,6 +446,50 @@ public class Facade implements IFacade {
         sendNotification(notificationName, null, null);
     }
 
+    /**
+     * Crear y enviar una INotification identificada por su identificador denso.
+
+     * Evita resolver el nombre de la notificación en cada envío.
+
+     * @param notificationId el identificador de la notificación que se enviará
+     * @param body el cuerpo de la notificación
+     * @param type el tipo de la notificación
+     */
+    public void sendNotification(int notificationId, Object body, String type) {
+        notifyObservers(new Notification(notificationId, body, type));
+    }
+
+    /**
+     * Crear y enviar una INotification identificada por su identificador denso.
+
+     * @param notificationId el identificador de la notificación que se enviará
+     * @param body el cuerpo de la notificación
+     */
+    public void sendNotification(int notificationId, Object body) {
+        sendNotification(notificationId, body, null);
+    }
+
+    /**
+     * Crear y enviar una INotification identificada por su identificador denso.
+
+     * @param notificationId el identificador de la notificación que se enviará
+     */
+    public void sendNotification(int notificationId) {
+        sendNotification(notificationId, null, null);
+    }
+
+    /**
+     * Enviar una colección de INotifications en un solo despacho.
+
+     * Los Observers que aceptan lotes reciben juntas las notificaciones
+     * de un mismo nombre; el resto las recibe una a una.
+
+     * @param notifications las INotifications que se enviarán, en orden
+     */
+    public void sendNotifications(Collection<? extends INotification> notifications) {
+        view.notifyObservers(notifications);
+    }
+
     /**
      * Notificar a los Observer.
 
@@ -343,12 +501,227 @@ public class Facade implements IFacade {
      * y pasar los parámetros, sin tener que
      * construir la notificación usted mismo.
 
+     * Si el único Observer de la notificación es el del Controller, ejecuta
+     * el ICommand directamente, sin pasar por el despacho de la View. Si
+     * la View es una subclase que anula notifyObservers, siempre se despacha
+     * con ese método.
+
      * @param notification la INotification que la View notificará a los Observers.
+     * @see IView#getDirectObserver(int) IView.getDirectObserver
      */
     public void notifyObservers(INotification notification) {
+        int id = NotificationRegistry.find(notification);
+        IObserver direct = id != NotificationRegistry.UNKNOWN ? view.getDirectObserver(id) : null;
+        if(direct instanceof Observer && direct.compareNotifyContext(controller)) {
+            controller.executeCommand(notification);
+            return;
+        }
         view.notifyObservers(notification);
     }
 
+    /**
+     * Crear y enviar una INotification en modo de conflación.
+
+     * Mientras la notificación está pendiente, otra con el mismo nombre y la
+     * misma clave la reemplaza, y los Observers solo reciben la más reciente.
+
+     * @param notificationName el nombre de la notificación que se enviará
+     * @param conflationKey la clave que, junto con el nombre, identifica la serie
+     * @param body el cuerpo de la notificación
+     * @param type el tipo de la notificación
+     */
+    public void sendNotificationConflated(String notificationName, Object conflationKey, Object body, String type) {
+        view.notifyObserversConflated(new Notification(notificationName, body, type), conflationKey);
+    }
+
+    /**
+     * Crear y enviar una INotification en modo de conflación.
+
+     * @param notificationName el nombre de la notificación que se enviará
+     * @param conflationKey la clave que, junto con el nombre, identifica la serie
+     * @param body el cuerpo de la notificación
+     */
+    public void sendNotificationConflated(String notificationName, Object conflationKey, Object body) {
+        sendNotificationConflated(notificationName, conflationKey, body, null);
+    }
+
+    /**
+     * Crear y enviar una INotification de forma asíncrona.
+
+     * Los Observers inline se ejecutan en el hilo que llama y el resto en el
+     * Executor del Core, de modo que un Mediator lento no detiene al emisor.
+
+     * @param notificationName el nombre de la notificación que se enviará
+     * @param body el cuerpo de la notificación
+     * @param type el tipo de la notificación
+     * @return un CompletableFuture que se completa cuando todos los Observers terminan
+     */
+    public CompletableFuture<Void> sendNotificationAsync(String notificationName, Object body, String type) {
+        return notifyObserversAsync(new Notification(notificationName, body, type));
+    }
+
+    /**
+     * Crear y enviar una INotification de forma asíncrona.
+
+     * @param notificationName el nombre de la notificación que se enviará
+     * @param body el cuerpo de la notificación
+     * @return un CompletableFuture que se completa cuando todos los Observers terminan
+     */
+    public CompletableFuture<Void> sendNotificationAsync(String notificationName, Object body) {
+        return sendNotificationAsync(notificationName, body, null);
+    }
+
+    /**
+     * Crear y enviar una INotification de forma asíncrona.
+
+     * @param notificationName el nombre de la notificación que se enviará
+     * @return un CompletableFuture que se completa cuando todos los Observers terminan
+     */
+    public CompletableFuture<Void> sendNotificationAsync(String notificationName) {
+        return sendNotificationAsync(notificationName, null, null);
+    }
+
+    /**
+     * Notificar a los Observer de forma asíncrona.
+
+     * @param notification la INotification que la View notificará a los Observers.
+     * @return un CompletableFuture que se completa cuando todos los Observers terminan
+     */
+    public CompletableFuture<Void> notifyObserversAsync(INotification notification) {
+        return view.notifyObserversAsync(notification);
+    }
+
+    /**
+     * Establece el Executor para el despacho asíncrono de este Core.
+
+     * @param executor el Executor, o null para ejecutar todo en el hilo del emisor
+     */
+    public void setExecutor(Executor executor) {
+        view.setExecutor(executor);
+    }
+
+    /**
+     * Obtiene el Executor en el que este Core ejecuta el trabajo que no corre
+     * en el hilo del emisor: el bucle de eventos o el Executor de la View.
+
+     * @return el Executor, o null si todo se ejecuta en el hilo del emisor
+     * @see IView#getDispatchExecutor() IView.getDispatchExecutor
+     */
+    public Executor getDispatchExecutor() {
+        return view.getDispatchExecutor();
+    }
+
+    /**
+     * Activa o desactiva el modo actor de este Core.
+
+     * Con el modo activo, sendNotification desde otro hilo encola la
+     * notificación y retorna; desde el hilo del Core la despacha en línea.
+
+     * @param enabled si se activa el modo
+     * @see IView#setEventLoopMode(boolean) IView.setEventLoopMode
+     */
+    public void setEventLoopMode(boolean enabled) {
+        view.setEventLoopMode(enabled);
+    }
+
+    /**
+     * Acota la cola del modo actor de este Core.
+
+     * @param capacity la cantidad máxima de notificaciones encoladas
+     * @param policy la política cuando la cola está llena
+     * @see IView#setQueueLimit(int, BackpressurePolicy) IView.setQueueLimit
+     */
+    public void setQueueLimit(int capacity, BackpressurePolicy policy) {
+        view.setQueueLimit(capacity, policy);
+    }
+
+    /**
+     * Acota la cola del modo actor de este Core para un nombre de notificación.
+
+     * @param notificationName el nombre de la notificación
+     * @param capacity la cantidad máxima de notificaciones encoladas con ese nombre
+     * @param policy la política cuando la cola está llena
+     */
+    public void setQueueLimit(String notificationName, int capacity, BackpressurePolicy policy) {
+        view.setQueueLimit(notificationName, capacity, policy);
+    }
+
+    /**
+     * Activa o desactiva el despacho diferido de este Core.
+
+     * Con el modo activo, sendNotification desde un Command o un Mediator
+     * durante un despacho encola la notificación en lugar de anidar el despacho.
+
+     * @param enabled si se activa el modo
+     * @see IView#setDeferredDispatch(boolean) IView.setDeferredDispatch
+     */
+    public void setDeferredDispatch(boolean enabled) {
+        view.setDeferredDispatch(enabled);
+    }
+
+    /**
+     * Establece el tiempo límite de los IAsyncCommands de una notificación.
+
+     * @param notificationName el nombre de la notificación
+     * @param timeout el tiempo límite, o 0 para quitarlo
+     * @param unit la unidad de timeout
+     * @see IController#setCommandTimeout(String, long, TimeUnit) IController.setCommandTimeout
+     */
+    public void setCommandTimeout(String notificationName, long timeout, TimeUnit unit) {
+        controller.setCommandTimeout(notificationName, timeout, unit);
+    }
+
+    /**
+     * Configura la caché de resultados de los IMemoizedCommands de una notificación.
+
+     * @param notificationName el nombre de la notificación
+     * @param capacity la cantidad máxima de resultados guardados
+     * @param invalidatedBy los nombres de las notificaciones que descartan los resultados
+     * @see IController#setResultCache(String, int, String...) IController.setResultCache
+     */
+    public void setResultCache(String notificationName, int capacity, String... invalidatedBy) {
+        controller.setResultCache(notificationName, capacity, invalidatedBy);
+    }
+
+    /**
+     * Descarta los resultados guardados de los IMemoizedCommands de una notificación.
+
+     * @param notificationName el nombre de la notificación
+     */
+    public void invalidateResults(String notificationName) {
+        controller.invalidateResults(notificationName);
+    }
+
+    /**
+     * Registra un Bulkhead en el Controller de este Core.
+
+     * @param bulkhead el Bulkhead
+     * @throws UnsupportedOperationException si el IController de este Core no es un Controller
+     * @see Controller#registerBulkhead(Bulkhead) Controller.registerBulkhead
+     */
+    public void registerBulkhead(Bulkhead bulkhead) {
+        bulkheadController().registerBulkhead(bulkhead);
+    }
+
+    // los Bulkheads los lleva el Controller del framework, no cualquier IController
+    private Controller bulkheadController() {
+        if(!(controller instanceof Controller)) throw new UnsupportedOperationException("El IController de este Core no admite Bulkheads");
+        return (Controller) controller;
+    }
+
+    /**
+     * Espera a que no quede ningún IAsyncCommand en curso en este Core.
+
+     * @param timeout el tiempo máximo de espera
+     * @param unit la unidad de timeout
+     * @return si no queda ninguna ejecución en curso
+     * @throws InterruptedException si el hilo que espera es interrumpido
+     * @see IController#awaitQuiescence(long, TimeUnit) IController.awaitQuiescence
+     */
+    public boolean awaitQuiescence(long timeout, TimeUnit unit) throws InterruptedException {
+        return controller.awaitQuiescence(timeout, unit);
+    }
+
     /**
      * Establece la clave Multiton para esta instancia de fachada.
 
@@ -6,6 +6,7 @@
 
 package org.puremvc.java.multicore.patterns.mediator;
 
+import org.puremvc.java.multicore.interfaces.IInterest;
 import org.puremvc.java.multicore.interfaces.IMediator;
 import org.puremvc.java.multicore.interfaces.INotification;
 import org.puremvc.java.multicore.patterns.observer.Notifier;
@@ -82,6 +83,22 @@ public class Mediator extends Notifier implements IMediator {
 
     }
 
+    /**
+     * Lista los pares (nombre, tipo) de INotification en los que este
+     * Mediator está interesado en ser notificado.
+     *
+     * A diferencia de listNotificationInterests, la View solo
+     * notifica al Mediator cuando el tipo de la INotification coincide.
+     *
+     * @return Array la lista de IInterest
+     */
+
+    public IInterest[] listInterests() {
+
+        return new IInterest[0];
+
+    }
+
     /**
      * Maneja las INotifications.
      *
@@ -0,0 +1,57 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.IBatchObserver;
+import org.puremvc.java.multicore.interfaces.INotification;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Una implementación base de IBatchObserver.
+ *
+ * Además del método de notificación de Observer, encapsula un método
+ * que recibe todas las INotifications de un mismo nombre enviadas juntas.
+ *
+ * @see org.puremvc.java.multicore.core.View View
+ */
+public class BatchObserver extends Observer implements IBatchObserver {
+
+    private Consumer<List<INotification>> notifyBatch;
+
+    /**
+     * Constructor.
+     *
+     * @param notifyMethod el método de notificación del objeto interesado
+     * @param notifyBatchMethod el método de notificación por lotes del objeto interesado
+     * @param notifyContext el contexto de notificación del objeto interesado
+     */
+    public BatchObserver(Consumer<INotification> notifyMethod, Consumer<List<INotification>> notifyBatchMethod, Object notifyContext) {
+        super(notifyMethod, notifyContext);
+        setNotifyBatchMethod(notifyBatchMethod);
+    }
+
+    /**
+     * Notifica al objeto interesado un lote de INotifications.
+     *
+     * @param notifications las INotifications de un mismo nombre
+     */
+    public void notifyObserver(List<INotification> notifications) {
+        notifyBatch.accept(notifications);
+    }
+
+    /**
+     * Establece el método de notificación por lotes.
+     *
+     * @param notifyBatchMethod el método de notificación por lotes del objeto interesado
+     */
+    public void setNotifyBatchMethod(Consumer<List<INotification>> notifyBatchMethod) {
+        notifyBatch = notifyBatchMethod;
+    }
+}
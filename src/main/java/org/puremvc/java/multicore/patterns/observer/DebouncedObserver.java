@@ -0,0 +1,109 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.interfaces.IObserver;
+import org.puremvc.java.multicore.interfaces.IScheduledObserver;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entrega la última INotification recibida después de un período de silencio.
+ *
+ * Se programa una sola tarea en SharedScheduler por ráfaga: al vencer,
+ * si llegaron INotifications nuevas se reprograma por el tiempo restante.
+ * La entrega no ocurre en el hilo de SharedScheduler sino por el Executor
+ * de la View donde está registrado, y se descarta si ya fue eliminado.
+ * Una excepción del IObserver se informa al UncaughtExceptionHandler del
+ * hilo de la entrega.
+ *
+ * @see RateLimit#debounce(long, TimeUnit) RateLimit.debounce
+ */
+final class DebouncedObserver extends ObserverDecorator implements IScheduledObserver {
+
+    private final long quietNanos;
+
+    private INotification latest;
+    private long lastNanos;
+    private boolean scheduled;
+
+    // null mientras no esté registrado en una View: se entrega en el hilo del temporizador
+    private Executor dispatcher;
+    private int attachments;
+
+    DebouncedObserver(IObserver observer, long quietNanos) {
+        super(observer);
+        this.quietNanos = quietNanos;
+    }
+
+    public void notifyObserver(INotification notification) {
+        synchronized(this) {
+            latest = notification;
+            lastNanos = System.nanoTime();
+            if(scheduled) return;
+            scheduled = true;
+        }
+        SharedScheduler.get().schedule(this::fire, quietNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public synchronized void attach(Executor dispatcher) {
+        this.dispatcher = dispatcher;
+        attachments++;
+    }
+
+    public synchronized void detach() {
+        if(attachments > 0 && --attachments == 0) latest = null;
+    }
+
+    private void fire() {
+        INotification notification;
+        long remaining;
+        Executor target;
+        synchronized(this) {
+            remaining = lastNanos + quietNanos - System.nanoTime();
+            notification = latest;
+            target = dispatcher;
+            if(remaining <= 0) {
+                latest = null;
+                scheduled = false;
+            }
+        }
+        if(remaining > 0) {
+            SharedScheduler.get().schedule(this::fire, remaining, TimeUnit.NANOSECONDS);
+        } else if(notification != null) {
+            Runnable delivery = () -> deliver(notification);
+            if(target == null) {
+                delivery.run();
+                return;
+            }
+            try {
+                target.execute(delivery);
+            } catch(RuntimeException rejected) {
+                report(rejected);
+            }
+        }
+    }
+
+    private void deliver(INotification notification) {
+        synchronized(this) {
+            if(dispatcher != null && attachments == 0) return;
+        }
+        try {
+            observer.notifyObserver(notification);
+        } catch(Throwable error) {
+            report(error);
+        }
+    }
+
+    private static void report(Throwable error) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+    }
+}
@@ -0,0 +1,155 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.IInterest;
+import org.puremvc.java.multicore.interfaces.IObserver;
+
+/**
+ * Una implementación base de IInterest.
+ *
+ * Los Mediators la usan en listInterests para declarar
+ * pares (nombre, tipo) de INotifications:
+ *
+ * {@code
+ *   public IInterest[] listInterests() {
+ *     return new IInterest[] { new Interest("order.update", "cancelled") };
+ *   }
+ * }
+ *
+ * @see org.puremvc.java.multicore.patterns.mediator.Mediator Mediator
+ */
+public class Interest implements IInterest {
+
+    // el nombre de las notificaciones de interés
+    private String name;
+
+    // el tipo de las notificaciones de interés
+    private String type;
+
+    // la prioridad de despacho
+    private int priority;
+
+    // si debe ejecutarse en el hilo del emisor
+    private boolean inline = true;
+
+    // el operador que limita la frecuencia de notificación
+    private RateLimit rateLimit;
+
+    /**
+     * Constructor.
+
+     * @param name nombre (o patrón) de las INotifications de interés. (requerido)
+     * @param type tipo de las INotifications de interés, o null para cualquier tipo
+     * @param priority prioridad de despacho; la mayor se notifica primero
+     * @param inline false si el despacho asíncrono puede notificar al Mediator fuera del hilo del emisor
+     */
+    public Interest(String name, String type, int priority, boolean inline) {
+        this(name, type, priority);
+        this.inline = inline;
+    }
+
+    /**
+     * Constructor.
+
+     * @param name nombre (o patrón) de las INotifications de interés. (requerido)
+     * @param type tipo de las INotifications de interés, o null para cualquier tipo
+     * @param priority prioridad de despacho; la mayor se notifica primero
+     */
+    public Interest(String name, String type, int priority) {
+        this(name, type);
+        this.priority = priority;
+    }
+
+    /**
+     * Constructor.
+
+     * @param name nombre (o patrón) de las INotifications de interés. (requerido)
+     * @param type tipo de las INotifications de interés, o null para cualquier tipo
+     * @param rateLimit operador debounce o throttle para el Mediator
+     */
+    public Interest(String name, String type, RateLimit rateLimit) {
+        this(name, type);
+        this.rateLimit = rateLimit;
+    }
+
+    /**
+     * Constructor.
+
+     * @param name nombre (o patrón) de las INotifications de interés. (requerido)
+     * @param type tipo de las INotifications de interés, o null para cualquier tipo
+     */
+    public Interest(String name, String type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    /**
+     * Constructor.
+
+     * @param name nombre (o patrón) de las INotifications de interés. (requerido)
+     */
+    public Interest(String name) {
+        this(name, null);
+    }
+
+    /**
+     * Obtener el nombre de las INotifications de interés.
+
+     * @return el nombre de las INotifications de interés.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Obtener el tipo de las INotifications de interés.
+
+     * @return el tipo de las INotifications de interés, o null para cualquier tipo.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Obtener la prioridad de despacho.
+
+     * @return la prioridad de despacho, 0 por defecto.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Indica si el Mediator debe ser notificado en el hilo del emisor.
+
+     * @return si debe ejecutarse en el hilo del emisor, true por defecto.
+     */
+    public boolean isInline() {
+        return inline;
+    }
+
+    /**
+     * Obtener el operador que limita la frecuencia de notificación.
+     * @return la RateLimit, o null para notificar cada INotification.
+     */
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    /**
+     * Envuelve el IObserver en la RateLimit, si hay una.
+     *
+     * @param observer el IObserver del IMediator
+     * @return el IObserver envuelto, o el mismo si no hay RateLimit
+     */
+    @Override
+    public IObserver decorate(IObserver observer) {
+        return rateLimit != null ? rateLimit.apply(observer) : observer;
+    }
+}
@@ -45,12 +45,18 @@ public class Notification implements INotification {
     // el nombre de la instancia de notificación 
     private String name;
 
+    // el identificador denso del nombre, resuelto bajo demanda
+    private int id = NotificationRegistry.UNKNOWN;
+
     // el tipo de la instancia de notificación
     private String type;
 
     // el cuerpo de la instancia de notificación
     private Object body;
 
+    // si un observador detuvo la propagación
+    private boolean propagationStopped;
+
     /**
      * Constructor.
      
@@ -64,6 +70,21 @@ public class Notification implements INotification {
         this.type = type;
     }
 
+    /**
+     * Constructor.
+
+     * Usa un identificador obtenido de NotificationRegistry,
+     * evitando resolver el nombre en cada envío.
+
+     * @param id identificador de la instancia Notification. (requerido)
+     * @param body el cuerpo de la Notification.
+     * @param type el tipo de la Notification
+     */
+    public Notification(int id, Object body, String type) {
+        this(NotificationRegistry.nameOf(id), body, type);
+        this.id = id;
+    }
+
     /**
      * Constructor.
      
@@ -92,6 +113,18 @@ public class Notification implements INotification {
         return name;
     }
 
+    /**
+     * Obtener el identificador denso del nombre de la Notification.
+
+     * Se resuelve sin registrar el nombre y se conserva en cuanto existe.
+
+     * @return el identificador, o NotificationRegistry.UNKNOWN si el nombre no está registrado.
+     */
+    public int getId() {
+        if(id == NotificationRegistry.UNKNOWN) id = NotificationRegistry.find(name);
+        return id;
+    }
+
     /**
      * Establecer el cuerpo de la instancia Notification.
      */
@@ -124,6 +157,68 @@ public class Notification implements INotification {
         return type;
     }
 
+    /**
+     * Detener la propagación de la Notification.
+
+     * Los observadores restantes no son notificados.
+     */
+    public void stopPropagation() {
+        propagationStopped = true;
+    }
+
+    /**
+     * Indica si se detuvo la propagación de la Notification.
+
+     * @return si se llamó a stopPropagation
+     */
+    public boolean isPropagationStopped() {
+        return propagationStopped;
+    }
+
+    /**
+     * Reutilizar la instancia Notification para otra notificación.
+
+     * Usado por NotificationPipeline para rellenar sus ranuras preasignadas.
+
+     * @param id identificador de la notificación
+     * @param body el cuerpo de la Notification.
+     * @param type el tipo de la Notification
+     */
+    void reset(int id, Object body, String type) {
+        reset(NotificationRegistry.nameOf(id), id, body, type);
+    }
+
+    /**
+     * Crea una copia independiente de la instancia, con el mismo nombre,
+     * identificador, cuerpo y tipo.
+
+     * @return la copia
+     */
+    Notification copy() {
+        Notification copy = new Notification(name, body, type);
+        copy.id = id;
+        return copy;
+    }
+
+    /**
+     * Reutiliza la instancia para otra notificación, identificada por nombre.
+
+     * @param name el nombre de la Notification
+     * @param body el cuerpo de la Notification.
+     * @param type el tipo de la Notification
+     */
+    void reset(String name, Object body, String type) {
+        reset(name, NotificationRegistry.UNKNOWN, body, type);
+    }
+
+    private void reset(String name, int id, Object body, String type) {
+        this.name = name;
+        this.id = id;
+        this.body = body;
+        this.type = type;
+        this.propagationStopped = false;
+    }
+
     /**
      * Obtener la representación en cadena de la instancia Notification.
      
@@ -0,0 +1,296 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Un anillo de Notifications preasignadas delante del despacho de un Core.
+ *
+ * Los productores (uno o varios hilos) reclaman una secuencia, rellenan la
+ * ranura correspondiente y la publican; un único hilo consumidor entrega las
+ * notificaciones publicadas, en orden de secuencia, a la función de despacho
+ * (normalmente {@code facade::notifyObservers} o {@code view::notifyObservers}).
+ *
+ * Las ranuras se reutilizan. Por defecto se entrega la ranura misma a la
+ * función de despacho y publicar una notificación no asigna memoria; esto
+ * exige que la función sea síncrona y en línea (que termine de notificar en
+ * el hilo consumidor antes de retornar). Si no lo es (por ejemplo una View en
+ * modo actor, con Executor o con despacho diferido), hay que construir el
+ * pipeline con inlineDispatcher en false: cada notificación se copia antes de
+ * despacharla, a cambio de una asignación por notificación, porque la ranura
+ * puede reutilizarse mientras la notificación espera.
+ *
+ * {@code
+ *   NotificationPipeline pipeline = new NotificationPipeline(facade::notifyObservers, 1024, WaitStrategy.YIELD);
+ *   long sequence = pipeline.next();
+ *   pipeline.get(sequence, TICK).setBody(price);
+ *   pipeline.publish(sequence);
+ * }
+ *
+ * Con una función de despacho en línea, los observadores no deben conservar la
+ * INotification recibida después de retornar; si la necesitan, deben copiarla.
+ *
+ * @see WaitStrategy WaitStrategy
+ */
+public class NotificationPipeline {
+
+    // nanosegundos que se estaciona un productor mientras el anillo está lleno
+    private static final long PRODUCER_PARK_NANOS = 1000;
+
+    private final Consumer<INotification> dispatcher;
+
+    // si la función de despacho termina con la notificación antes de retornar
+    private final boolean inlineDispatcher;
+
+    private final WaitStrategy waitStrategy;
+
+    // ranuras preasignadas, reutilizadas en cada vuelta del anillo
+    private final Notification[] slots;
+
+    // secuencia publicada en cada ranura, o cancelled(secuencia) si se descartó al detenerse
+    private final AtomicLongArray published;
+
+    private final int mask;
+
+    // última secuencia reclamada por un productor
+    private final AtomicLong claimed = new AtomicLong(-1);
+
+    // última secuencia despachada por el consumidor
+    private volatile long consumed = -1;
+
+    private volatile boolean running = true;
+
+    // el consumidor está (o está por quedar) estacionado
+    private volatile boolean sleeping;
+
+    private final Thread consumer;
+
+    /**
+     * Constructor.
+     *
+     * La función de despacho recibe las ranuras sin copiarlas y debe terminar
+     * con cada notificación antes de retornar.
+     *
+     * @param dispatcher la función que despacha cada notificación publicada
+     * @param capacity la cantidad de ranuras, una potencia de dos
+     * @param waitStrategy la estrategia de espera del consumidor y los productores
+     * @throws IllegalArgumentException si capacity no es una potencia de dos
+     */
+    public NotificationPipeline(Consumer<INotification> dispatcher, int capacity, WaitStrategy waitStrategy) {
+        this(dispatcher, capacity, waitStrategy, true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param dispatcher la función que despacha cada notificación publicada
+     * @param capacity la cantidad de ranuras, una potencia de dos
+     * @param waitStrategy la estrategia de espera del consumidor y los productores
+     * @param inlineDispatcher si la función de despacho termina con la notificación antes de retornar, y puede recibir la ranura sin copiarla; con false recibe una copia
+     * @throws IllegalArgumentException si capacity no es una potencia de dos
+     */
+    public NotificationPipeline(Consumer<INotification> dispatcher, int capacity, WaitStrategy waitStrategy, boolean inlineDispatcher) {
+        if(capacity < 1 || Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("La capacidad debe ser una potencia de dos: " + capacity);
+        this.dispatcher = dispatcher;
+        this.inlineDispatcher = inlineDispatcher;
+        this.waitStrategy = waitStrategy;
+        slots = new Notification[capacity];
+        published = new AtomicLongArray(capacity);
+        for(int i = 0; i < capacity; i++) {
+            slots[i] = new Notification(null, null, null);
+            published.set(i, -1);
+        }
+        mask = capacity - 1;
+        consumer = new Thread(this::consume, "PureMVC-NotificationPipeline");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Reclama la siguiente secuencia, esperando si el anillo está lleno.
+     *
+     * @return la secuencia reclamada
+     * @throws IllegalStateException si el pipeline fue detenido
+     */
+    public long next() {
+        if(!running) throw new IllegalStateException("El pipeline fue detenido");
+        long sequence = claimed.incrementAndGet();
+        // reclamada durante shutdown: el consumidor la descarta
+        if(!running) throw new IllegalStateException("El pipeline fue detenido");
+        long wrapPoint = sequence - slots.length;
+        while(wrapPoint > consumed) {
+            waitForSpace();
+        }
+        return sequence;
+    }
+
+    /**
+     * Prepara la ranura de una secuencia reclamada para una notificación.
+     *
+     * El cuerpo y el tipo quedan en null, listos para rellenarse.
+     *
+     * @param sequence la secuencia devuelta por next
+     * @param notificationId el identificador de la notificación
+     * @return la Notification de la ranura
+     */
+    public Notification get(long sequence, int notificationId) {
+        Notification slot = slots[(int) sequence & mask];
+        slot.reset(notificationId, null, null);
+        return slot;
+    }
+
+    /**
+     * Publica una secuencia reclamada para que el consumidor la despache.
+     *
+     * @param sequence la secuencia devuelta por next
+     * @throws IllegalStateException si el pipeline se detuvo y la secuencia fue descartada
+     */
+    public void publish(long sequence) {
+        int index = (int) sequence & mask;
+        long state = published.get(index);
+        if(state == cancelled(sequence) || !published.compareAndSet(index, state, sequence)) {
+            throw new IllegalStateException("El pipeline fue detenido");
+        }
+        if(sleeping) LockSupport.unpark(consumer);
+    }
+
+    /**
+     * Reclama, rellena y publica una notificación.
+     *
+     * @param notificationId el identificador de la notificación
+     * @param body el cuerpo de la notificación
+     * @param type el tipo de la notificación
+     * @throws IllegalStateException si el pipeline fue detenido
+     */
+    public void publish(int notificationId, Object body, String type) {
+        long sequence = next();
+        slots[(int) sequence & mask].reset(notificationId, body, type);
+        publish(sequence);
+    }
+
+    /**
+     * Reclama, rellena y publica una notificación.
+     *
+     * @param notificationName el nombre de la notificación
+     * @param body el cuerpo de la notificación
+     * @param type el tipo de la notificación
+     * @throws IllegalStateException si el pipeline fue detenido
+     */
+    public void publish(String notificationName, Object body, String type) {
+        long sequence = next();
+        slots[(int) sequence & mask].reset(notificationName, body, type);
+        publish(sequence);
+    }
+
+    /**
+     * Obtiene la última secuencia despachada por el consumidor.
+     *
+     * @return la secuencia, o -1 si aún no despachó ninguna
+     */
+    public long getConsumedSequence() {
+        return consumed;
+    }
+
+    /**
+     * Detiene el pipeline después de despachar las secuencias ya publicadas.
+     *
+     * Las secuencias reclamadas que aún no se publicaron se descartan, y
+     * publish lanza IllegalStateException para ellas.
+     */
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(consumer);
+    }
+
+    /**
+     * Espera a que el consumidor termine después de shutdown.
+     *
+     * @param timeout el tiempo máximo de espera
+     * @param unit la unidad de timeout
+     * @return si el consumidor terminó
+     * @throws InterruptedException si el hilo que espera es interrumpido
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        consumer.join(Math.max(1, unit.toMillis(timeout)));
+        return !consumer.isAlive();
+    }
+
+    private void consume() {
+        long next = consumed + 1;
+        while(true) {
+            int index = (int) next & mask;
+            long state = published.get(index);
+            if(state != next) {
+                if(state == cancelled(next)) {
+                    consumed = next++;
+                } else if(running) {
+                    waitForPublication(index, next);
+                } else if(claimed.get() < next) {
+                    return;
+                } else if(published.compareAndSet(index, state, cancelled(next))) {
+                    // reclamada y no publicada al detenerse: se descarta
+                    consumed = next++;
+                }
+                continue;
+            }
+            // despacha en lote todo lo publicado de forma contigua
+            long last = next;
+            do {
+                dispatch(slots[index]);
+                index = (int) ++last & mask;
+            } while(published.get(index) == last);
+            consumed = last - 1;
+            next = last;
+        }
+    }
+
+    private void dispatch(Notification slot) {
+        try {
+            dispatcher.accept(inlineDispatcher ? slot : slot.copy());
+        } catch(Throwable error) {
+            consumer.getUncaughtExceptionHandler().uncaughtException(consumer, error);
+        }
+    }
+
+    private static long cancelled(long sequence) {
+        return -2 - sequence;
+    }
+
+    private void waitForPublication(int index, long sequence) {
+        switch(waitStrategy) {
+            case BUSY_SPIN:
+                break;
+            case YIELD:
+                Thread.yield();
+                break;
+            default:
+                sleeping = true;
+                if(running && published.get(index) != sequence) LockSupport.park(this);
+                sleeping = false;
+        }
+    }
+
+    private void waitForSpace() {
+        switch(waitStrategy) {
+            case BUSY_SPIN:
+                break;
+            case YIELD:
+                Thread.yield();
+                break;
+            default:
+                LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registro global de nombres de Notification.
+ *
+ * Asigna a cada nombre de notificación un identificador entero denso
+ * (0, 1, 2, ...) la primera vez que se solicita con idOf, al registrar
+ * un observador o un comando. View y Controller usan estos identificadores
+ * como índices de arreglos, de modo que el envío de una INotification no
+ * necesita calcular hashes ni comparar Strings. Enviar una notificación
+ * nunca registra su nombre: uno sin identificador no tiene observadores
+ * por nombre exacto.
+ *
+ * Los identificadores son estables durante la vida de la aplicación y
+ * compartidos por todos los Cores, por lo que conviene resolverlos una
+ * sola vez y guardarlos en constantes:
+ *
+ * {@code
+ *   public static final int STARTUP = NotificationRegistry.idOf("startup");
+ * }
+ *
+ * @see Notification Notification
+ */
+public final class NotificationRegistry {
+
+    // Valor devuelto por find cuando el nombre no está registrado
+    public static final int UNKNOWN = -1;
+
+    // Asignación de nombres de notificación a identificadores
+    private static final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+
+    // Nombres de notificación indexados por identificador
+    private static volatile String[] names = new String[64];
+
+    // Cantidad de identificadores asignados
+    private static volatile int size;
+
+    private NotificationRegistry() {
+    }
+
+    /**
+     * Obtiene el identificador de un nombre de notificación,
+     * asignándole uno nuevo si aún no lo tiene.
+     *
+     * @param notificationName el nombre de la notificación
+     * @return el identificador denso del nombre
+     */
+    public static int idOf(String notificationName) {
+        Integer id = ids.get(notificationName);
+        return id != null ? id : register(notificationName);
+    }
+
+    /**
+     * Obtiene el identificador de un nombre de notificación sin registrarlo.
+     *
+     * @param notificationName el nombre de la notificación
+     * @return el identificador, o UNKNOWN si el nombre nunca fue registrado
+     */
+    public static int find(String notificationName) {
+        Integer id = ids.get(notificationName);
+        return id != null ? id : UNKNOWN;
+    }
+
+    /**
+     * Obtiene el identificador de una INotification sin registrar su nombre.
+     *
+     * @param notification la INotification
+     * @return el identificador, o UNKNOWN si su nombre nunca fue registrado
+     */
+    public static int find(INotification notification) {
+        int id = notification.getId();
+        return id != UNKNOWN ? id : find(notification.getName());
+    }
+
+    /**
+     * Obtiene el nombre de notificación de un identificador.
+     *
+     * @param id el identificador de la notificación
+     * @return el nombre asociado al identificador
+     * @throws IllegalArgumentException si el identificador no fue asignado
+     */
+    public static String nameOf(int id) {
+        if(id < 0 || id >= size) throw new IllegalArgumentException("Identificador de notificación desconocido: " + id);
+        return names[id];
+    }
+
+    /**
+     * Cantidad de identificadores asignados hasta ahora.
+     *
+     * @return el siguiente identificador que se asignará
+     */
+    public static int size() {
+        return size;
+    }
+
+    private static synchronized int register(String notificationName) {
+        if(notificationName == null) throw new IllegalArgumentException("El nombre de la notificación no puede ser null");
+        Integer id = ids.get(notificationName);
+        if(id != null) return id;
+
+        int next = size;
+        String[] current = names;
+        if(next == current.length) current = Arrays.copyOf(current, next * 2);
+        current[next] = notificationName;
+        names = current;
+        ids.put(notificationName, next);
+        size = next + 1;
+        return next;
+    }
+}
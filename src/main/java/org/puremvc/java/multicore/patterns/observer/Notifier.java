@@ -93,6 +93,40 @@ public class Notifier implements INotifier {
         getFacade().sendNotification(notificationName);
     }
 
+    /**
+     * <P>Crear y enviar una <code>INotification</code> identificada
+     * por su identificador denso.</P>
+     *
+     * @param notificationId el identificador de la notificación a enviar
+     * @param body el cuerpo de la notificación
+     * @param type el tipo de la notificación
+     * @see NotificationRegistry NotificationRegistry
+     */
+    public void sendNotification(int notificationId, Object body, String type) {
+        getFacade().sendNotification(notificationId, body, type);
+    }
+
+    /**
+     * <P>Crear y enviar una <code>INotification</code> identificada
+     * por su identificador denso.</P>
+     *
+     * @param notificationId el identificador de la notificación a enviar
+     * @param body el cuerpo de la notificación
+     */
+    public void sendNotification(int notificationId, Object body) {
+        getFacade().sendNotification(notificationId, body);
+    }
+
+    /**
+     * <P>Crear y enviar una <code>INotification</code> identificada
+     * por su identificador denso.</P>
+     *
+     * @param notificationId el identificador de la notificación a enviar
+     */
+    public void sendNotification(int notificationId) {
+        getFacade().sendNotification(notificationId);
+    }
+
     /**
      * <P>Inicializa esta instancia de INotifier.</P>
      *
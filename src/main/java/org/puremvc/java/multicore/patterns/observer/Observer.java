@@ -33,6 +33,9 @@ public class Observer implements IObserver {
 
     private Object context;
     private Consumer<INotification> notify;
+    private int priority;
+    private boolean inline = true;
+    private boolean blocking;
 
     /**
      * Constructor.
@@ -48,6 +51,21 @@ public class Observer implements IObserver {
         setNotifyContext(notifyContext);
     }
 
+    /**
+     * Constructor.
+     *
+     * Los observadores de mayor prioridad son notificados primero
+     * y pueden detener la propagación de la INotification.
+     *
+     * @param notifyMethod el método de notificación del objeto interesado
+     * @param notifyContext el contexto de notificación del objeto interesado
+     * @param priority la prioridad de despacho
+     */
+    public Observer(Consumer<INotification> notifyMethod, Object notifyContext, int priority) {
+        this(notifyMethod, notifyContext);
+        setPriority(priority);
+    }
+
     /**
      * Compara un objeto con el contexto de notificación.
      *
@@ -104,4 +122,66 @@ public class Observer implements IObserver {
     public void setNotifyMethod(Consumer<INotification> notify) {
         this.notify = notify;
     }
+
+    /**
+     * <P>Obtiene la prioridad de despacho.</P>
+     *
+     * @return la prioridad de despacho, 0 por defecto.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * <P>Establece la prioridad de despacho.</P>
+     *
+     * <P>Debe establecerse antes de registrar el Observer con la View.</P>
+     *
+     * @param priority la prioridad de despacho.
+     */
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * <P>Indica si el Observer debe ejecutarse en el hilo que envía la notificación.</P>
+     *
+     * @return si debe ejecutarse en el hilo del emisor, true por defecto.
+     */
+    public boolean isInline() {
+        return inline;
+    }
+
+    /**
+     * <P>Establece si el Observer debe ejecutarse en el hilo que envía la notificación.</P>
+     *
+     * <P>Con false, el despacho asíncrono de la View puede ejecutarlo en el
+     * Executor del Core. Debe establecerse antes de registrar el Observer.</P>
+     *
+     * @param inline si debe ejecutarse en el hilo del emisor.
+     */
+    public void setInline(boolean inline) {
+        this.inline = inline;
+    }
+
+    /**
+     * <P>Indica si el Observer hace E/S bloqueante.</P>
+     *
+     * @return si el Observer es bloqueante, false por defecto.
+     */
+    public boolean isBlocking() {
+        return blocking;
+    }
+
+    /**
+     * <P>Establece si el Observer hace E/S bloqueante.</P>
+     *
+     * <P>Con el despacho en hilos virtuales activo en la View, se ejecuta en
+     * un hilo virtual. Debe establecerse antes de registrar el Observer.</P>
+     *
+     * @param blocking si el Observer es bloqueante.
+     */
+    public void setBlocking(boolean blocking) {
+        this.blocking = blocking;
+    }
 }
@@ -0,0 +1,52 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.interfaces.IObserver;
+
+import java.util.function.Consumer;
+
+/**
+ * Base de los IObservers que envuelven a otro IObserver.
+ *
+ * Delega todo en el IObserver envuelto, de modo que el decorador conserva
+ * su contexto de notificación, prioridad y modo de ejecución.
+ */
+abstract class ObserverDecorator implements IObserver {
+
+    protected final IObserver observer;
+
+    ObserverDecorator(IObserver observer) {
+        this.observer = observer;
+    }
+
+    public void setNotifyMethod(Consumer<INotification> notifyMethod) {
+        observer.setNotifyMethod(notifyMethod);
+    }
+
+    public void setNotifyContext(Object notifyContext) {
+        observer.setNotifyContext(notifyContext);
+    }
+
+    public boolean compareNotifyContext(Object object) {
+        return observer.compareNotifyContext(object);
+    }
+
+    public int getPriority() {
+        return observer.getPriority();
+    }
+
+    public boolean isInline() {
+        return observer.isInline();
+    }
+
+    public boolean isBlocking() {
+        return observer.isBlocking();
+    }
+}
@@ -0,0 +1,126 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.BackpressurePolicy;
+
+/**
+ * Una instantánea de los contadores de una cola de despacho acotada.
+ *
+ * @see BackpressurePolicy BackpressurePolicy
+ */
+public final class QueueStats {
+
+    private final int capacity;
+    private final BackpressurePolicy policy;
+    private final int depth;
+    private final int highWaterMark;
+    private final long enqueued;
+    private final long dropped;
+    private final long rejected;
+    private final long callerRuns;
+    private final long blocked;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity la capacidad de la cola
+     * @param policy la política cuando la cola está llena
+     * @param depth la cantidad de notificaciones encoladas
+     * @param highWaterMark la mayor cantidad de notificaciones encoladas a la vez
+     * @param enqueued la cantidad de notificaciones encoladas
+     * @param dropped la cantidad de notificaciones descartadas
+     * @param rejected la cantidad de notificaciones rechazadas
+     * @param callerRuns la cantidad de notificaciones despachadas en el hilo del emisor
+     * @param blocked la cantidad de veces que un emisor esperó por lugar en la cola
+     */
+    public QueueStats(int capacity, BackpressurePolicy policy, int depth, int highWaterMark,
+                      long enqueued, long dropped, long rejected, long callerRuns, long blocked) {
+        this.capacity = capacity;
+        this.policy = policy;
+        this.depth = depth;
+        this.highWaterMark = highWaterMark;
+        this.enqueued = enqueued;
+        this.dropped = dropped;
+        this.rejected = rejected;
+        this.callerRuns = callerRuns;
+        this.blocked = blocked;
+    }
+
+    /**
+     * @return la capacidad de la cola
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return la política cuando la cola está llena
+     */
+    public BackpressurePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return la cantidad de notificaciones encoladas al tomar la instantánea
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return la mayor cantidad de notificaciones encoladas a la vez
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * @return la cantidad de notificaciones encoladas
+     */
+    public long getEnqueued() {
+        return enqueued;
+    }
+
+    /**
+     * @return la cantidad de notificaciones descartadas (DROP_OLDEST o DROP_NEWEST)
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * @return la cantidad de notificaciones rechazadas (REJECT)
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * @return la cantidad de notificaciones despachadas en el hilo del emisor (CALLER_RUNS)
+     */
+    public long getCallerRuns() {
+        return callerRuns;
+    }
+
+    /**
+     * @return la cantidad de veces que un emisor esperó por lugar en la cola (BLOCK)
+     */
+    public long getBlocked() {
+        return blocked;
+    }
+
+    /**
+     * @return la representación en cadena de los contadores
+     */
+    public String toString() {
+        return "QueueStats capacity=" + capacity + " policy=" + policy + " depth=" + depth
+                + " highWaterMark=" + highWaterMark + " enqueued=" + enqueued + " dropped=" + dropped
+                + " rejected=" + rejected + " callerRuns=" + callerRuns + " blocked=" + blocked;
+    }
+}
@@ -0,0 +1,84 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.IObserver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un operador que limita la frecuencia con que se notifica a un IObserver.
+ *
+ * - debounce: espera un período de silencio y entrega solo la última
+ *   INotification recibida. SharedScheduler solo mide el silencio: la
+ *   entrega pasa por el bucle de eventos o el Executor de la View donde
+ *   está registrado (o el hilo del temporizador si no tiene ninguno) y
+ *   se descarta si el IObserver ya fue eliminado.
+ *
+ * - throttle: entrega como máximo N INotifications por intervalo, en el
+ *   hilo del emisor, y descarta las demás.
+ *
+ * {@code
+ *   view.registerObserver("price", observer, RateLimit.debounce(200, TimeUnit.MILLISECONDS));
+ *   new Interest("price", null, RateLimit.throttle(10, 1, TimeUnit.SECONDS));
+ * }
+ *
+ * Cada llamada a apply crea un operador con su propio estado, de modo que
+ * una misma RateLimit puede usarse en varios registros.
+ *
+ * @see org.puremvc.java.multicore.interfaces.IView#registerObserver(String, IObserver, RateLimit) IView.registerObserver
+ * @see Interest Interest
+ */
+public final class RateLimit {
+
+    private final long debounceNanos;
+    private final int permits;
+    private final long intervalNanos;
+
+    private RateLimit(long debounceNanos, int permits, long intervalNanos) {
+        this.debounceNanos = debounceNanos;
+        this.permits = permits;
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * Crea un operador debounce.
+     *
+     * @param quietPeriod el período sin INotifications antes de entregar la última
+     * @param unit la unidad de quietPeriod
+     * @return la RateLimit
+     */
+    public static RateLimit debounce(long quietPeriod, TimeUnit unit) {
+        if(quietPeriod <= 0) throw new IllegalArgumentException("El período de silencio debe ser positivo: " + quietPeriod);
+        return new RateLimit(unit.toNanos(quietPeriod), 0, 0);
+    }
+
+    /**
+     * Crea un operador throttle.
+     *
+     * @param permits la cantidad máxima de INotifications por intervalo
+     * @param interval la duración del intervalo
+     * @param unit la unidad de interval
+     * @return la RateLimit
+     */
+    public static RateLimit throttle(int permits, long interval, TimeUnit unit) {
+        if(permits <= 0 || interval <= 0) throw new IllegalArgumentException("Los permisos y el intervalo deben ser positivos");
+        return new RateLimit(0, permits, unit.toNanos(interval));
+    }
+
+    /**
+     * Envuelve un IObserver en un nuevo operador.
+     *
+     * @param observer el IObserver a limitar
+     * @return el IObserver limitado, con el mismo contexto de notificación
+     */
+    public IObserver apply(IObserver observer) {
+        if(debounceNanos > 0) return new DebouncedObserver(observer, debounceNanos);
+        return new ThrottledObserver(observer, permits, intervalNanos);
+    }
+}
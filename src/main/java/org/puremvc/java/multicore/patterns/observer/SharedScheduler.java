@@ -0,0 +1,51 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Temporizador compartido por todos los Cores.
+ *
+ * Un único hilo daemon ejecuta las tareas diferidas del framework, como
+ * los operadores de RateLimit, en lugar de un hilo o un temporizador por
+ * observador. Las tareas deben ser breves: un observador lento debe
+ * derivar su trabajo a otro Executor.
+ *
+ * @see RateLimit RateLimit
+ */
+public final class SharedScheduler {
+
+    private SharedScheduler() {
+    }
+
+    /**
+     * Obtiene el ScheduledExecutorService compartido.
+     *
+     * @return el temporizador compartido
+     */
+    public static ScheduledExecutorService get() {
+        return Holder.INSTANCE;
+    }
+
+    // se crea en el primer uso
+    private static final class Holder {
+        static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, task -> {
+                Thread thread = new Thread(task, "PureMVC-SharedScheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.interfaces.IObserver;
+
+/**
+ * Entrega como máximo N INotifications por intervalo y descarta las demás.
+ *
+ * El intervalo es una ventana fija que comienza con la primera
+ * INotification entregada después de vencer la anterior.
+ *
+ * @see RateLimit#throttle(int, long, java.util.concurrent.TimeUnit) RateLimit.throttle
+ */
+final class ThrottledObserver extends ObserverDecorator {
+
+    private final int permits;
+    private final long intervalNanos;
+
+    private long windowStart;
+    private int count;
+
+    ThrottledObserver(IObserver observer, int permits, long intervalNanos) {
+        super(observer);
+        this.permits = permits;
+        this.intervalNanos = intervalNanos;
+    }
+
+    public void notifyObserver(INotification notification) {
+        if(acquire()) observer.notifyObserver(notification);
+    }
+
+    private synchronized boolean acquire() {
+        long now = System.nanoTime();
+        if(count == 0 || now - windowStart >= intervalNanos) {
+            windowStart = now;
+            count = 0;
+        }
+        if(count == permits) return false;
+        count++;
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+/**
+ * Estrategia de espera de un NotificationPipeline, usada por el
+ * consumidor cuando no hay notificaciones publicadas y por los
+ * productores cuando el anillo está lleno.
+ *
+ * @see NotificationPipeline NotificationPipeline
+ */
+public enum WaitStrategy {
+
+    /**
+     * Espera activa sin ceder el procesador.
+     * La menor latencia, a costa de ocupar un núcleo completo.
+     */
+    BUSY_SPIN,
+
+    /**
+     * Espera activa cediendo el procesador con Thread.yield.
+     * Buena latencia sin acaparar el núcleo si hay otros hilos listos.
+     */
+    YIELD,
+
+    /**
+     * Estaciona el hilo hasta que se publique una notificación.
+     * El menor consumo de procesador, con mayor latencia al despertar.
+     */
+    PARK
+}
@@ -0,0 +1,34 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Acceso a los hilos virtuales de la plataforma.
+ *
+ * Esta es la versión para Java 21 del JAR multi-release:
+ * cada tarea se ejecuta en un nuevo hilo virtual.
+ */
+final class VirtualThreads {
+
+    private static final Executor EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Obtiene el Executor compartido de un hilo virtual por tarea.
+     *
+     * @return el Executor de hilos virtuales
+     */
+    static Executor executor() {
+        return EXECUTOR;
+    }
+}
@@ -9,10 +9,31 @@ package org.puremvc.java.multicore.core;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.interfaces.ICommand;
 import org.puremvc.java.multicore.interfaces.IController;
 import org.puremvc.java.multicore.interfaces.INotification;
 import org.puremvc.java.multicore.interfaces.IView;
+import org.puremvc.java.multicore.patterns.command.AsyncCommand;
+import org.puremvc.java.multicore.patterns.command.CommandSuppliers;
+import org.puremvc.java.multicore.patterns.command.MemoizedCommand;
+import org.puremvc.java.multicore.patterns.command.PooledCommandProvider;
+import org.puremvc.java.multicore.patterns.command.ResultCacheStats;
+import org.puremvc.java.multicore.patterns.command.SharedCommandProvider;
+import org.puremvc.java.multicore.patterns.command.SimpleCommand;
 import org.puremvc.java.multicore.patterns.observer.Notification;
+import org.puremvc.java.multicore.patterns.observer.NotificationRegistry;
+import org.puremvc.java.multicore.patterns.observer.Observer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Test the PureMVC Controller class.
@@ -167,4 +188,299 @@ public class ControllerTest {
         Assertions.assertTrue(vo.result == 48, "Expecting vo.result == 48");
     }
 
+    /**
+     * Tests Command registration, execution and removal
+     * using dense notification ids.
+     */
+    @Test
+    public void testRegisterAndExecuteCommandById() {
+        IController controller = Controller.getInstance("ControllerTestKey6", key -> new Controller(key));
+        int id = NotificationRegistry.idOf("ControllerIdTest");
+        controller.registerCommand(id, () -> new ControllerTestCommand());
+
+        // the String api resolves to the same registration
+        Assertions.assertTrue(controller.hasCommand("ControllerIdTest"), "Expecting controller.hasCommand('ControllerIdTest') == true");
+
+        ControllerTestVO vo = new ControllerTestVO(7);
+        controller.executeCommand(new Notification(id, vo, null));
+        Assertions.assertEquals(14, vo.result, "Expecting vo.result == 14");
+
+        controller.removeCommand(id);
+        Assertions.assertFalse(controller.hasCommand(id), "Expecting controller.hasCommand(id) == false");
+    }
+
+    /**
+     * Tests that shared and pooled command providers reuse command instances.
+     */
+    @Test
+    public void testSharedAndPooledCommandProviders() {
+        IController controller = Controller.getInstance("ControllerTestKey7", key -> new Controller(key));
+
+        AtomicInteger sharedCreated = new AtomicInteger();
+        controller.registerCommand("ControllerTestShared", new SharedCommandProvider(() -> {
+            sharedCreated.incrementAndGet();
+            return new ControllerTestCommand();
+        }));
+
+        AtomicInteger pooledCreated = new AtomicInteger();
+        AtomicInteger resets = new AtomicInteger();
+        PooledCommandProvider pool = new PooledCommandProvider(() -> {
+            pooledCreated.incrementAndGet();
+            return new ControllerTestCommand();
+        }, 2, command -> resets.incrementAndGet());
+        controller.registerCommand("ControllerTestPooled", pool);
+
+        for(int i = 0; i < 10; i++) {
+            ControllerTestVO shared = new ControllerTestVO(i);
+            controller.executeCommand(new Notification("ControllerTestShared", shared));
+            Assertions.assertEquals(2 * i, shared.result, "Expecting the shared command executed");
+
+            ControllerTestVO pooled = new ControllerTestVO(i);
+            controller.executeCommand(new Notification("ControllerTestPooled", pooled));
+            Assertions.assertEquals(2 * i, pooled.result, "Expecting the pooled command executed");
+        }
+
+        Assertions.assertEquals(1, sharedCreated.get(), "Expecting a single shared instance");
+        Assertions.assertEquals(1, pooledCreated.get(), "Expecting the pooled instance reused");
+        Assertions.assertEquals(10, resets.get(), "Expecting the reset hook called after each execution");
+        Assertions.assertEquals(1, pool.getIdleCount(), "Expecting the instance back in the pool");
+    }
+
+    /**
+     * Tests that the pool keeps at most maxIdle instances and that a shared
+     * provider drops a core's instance when the command or the core is removed.
+     */
+    @Test
+    public void testCommandProviderBoundsAndDisposal() {
+        AtomicInteger pooledCreated = new AtomicInteger();
+        PooledCommandProvider pool = new PooledCommandProvider(() -> {
+            pooledCreated.incrementAndGet();
+            return new ControllerTestCommand();
+        }, 2);
+        List<ICommand> busy = new ArrayList<>();
+        for(int i = 0; i < 3; i++) busy.add(pool.acquire("ControllerTestKey15"));
+        for(ICommand command : busy) pool.release(command);
+        Assertions.assertEquals(2, pool.getIdleCount(), "Expecting at most maxIdle idle instances");
+        Assertions.assertTrue(busy.contains(pool.acquire("ControllerTestKey15")), "Expecting an idle instance reused");
+        Assertions.assertTrue(busy.contains(pool.acquire("ControllerTestKey15")), "Expecting an idle instance reused");
+        Assertions.assertEquals(3, pooledCreated.get(), "Expecting no instance created for idle slots");
+
+        IController controller = Controller.getInstance("ControllerTestKey15", key -> new Controller(key));
+        SharedCommandProvider shared = new SharedCommandProvider(() -> new ControllerTestCommand());
+        controller.registerCommand("ControllerTestDisposed", shared);
+        ICommand first = shared.acquire("ControllerTestKey15");
+        controller.removeCommand("ControllerTestDisposed");
+        ICommand second = shared.acquire("ControllerTestKey15");
+        Assertions.assertNotSame(first, second, "Expecting the instance dropped with its command");
+
+        controller.registerCommand("ControllerTestDisposed", shared);
+        Controller.removeController("ControllerTestKey15");
+        Assertions.assertNotSame(second, shared.acquire("ControllerTestKey15"), "Expecting the instance dropped with its core");
+    }
+
+    /**
+     * Tests registering a Command by class.
+     */
+    @Test
+    public void testRegisterCommandByClass() {
+        IController controller = Controller.getInstance("ControllerTestKey8", key -> new Controller(key));
+        controller.registerCommand("ControllerTestByClass", ControllerTestCommand.class);
+
+        ControllerTestVO vo = new ControllerTestVO(21);
+        controller.executeCommand(new Notification("ControllerTestByClass", vo));
+        Assertions.assertEquals(42, vo.result, "Expecting vo.result == 42");
+
+        Assertions.assertSame(CommandSuppliers.of(ControllerTestCommand.class), CommandSuppliers.of(ControllerTestCommand.class), "Expecting the supplier generated once per class");
+        Assertions.assertNotSame(CommandSuppliers.of(ControllerTestCommand.class).get(), CommandSuppliers.of(ControllerTestCommand.class).get(), "Expecting a new instance per call");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> controller.registerCommand("ControllerTestByClass", ICommand.class), "Expecting an error without a public constructor");
+    }
+
+    /**
+     * Tests tracking, timeout and cancellation of async commands.
+     */
+    @Test
+    public void testAsyncCommands() throws InterruptedException {
+        IController controller = Controller.getInstance("ControllerTestKey9", key -> new Controller(key));
+        Queue<CompletableFuture<String>> started = new ConcurrentLinkedQueue<>();
+        Supplier<ICommand> supplier = () -> new AsyncCommand() {
+            public CompletionStage<?> executeAsync(INotification notification) {
+                CompletableFuture<String> future = new CompletableFuture<>();
+                started.add(future);
+                return future;
+            }
+        };
+        controller.registerCommand("ControllerTestAsync", supplier);
+        controller.registerCommand("ControllerTestAsyncTimeout", supplier);
+        controller.setCommandTimeout("ControllerTestAsyncTimeout", 50, TimeUnit.MILLISECONDS);
+
+        controller.executeCommand(new Notification("ControllerTestAsync"));
+        controller.executeCommand(new Notification("ControllerTestAsync"));
+        Assertions.assertEquals(2, controller.getInFlightCount("ControllerTestAsync"), "Expecting two executions in flight");
+        Assertions.assertFalse(controller.awaitQuiescence(10, TimeUnit.MILLISECONDS), "Expecting executions still in flight");
+
+        started.poll().complete("done");
+        Assertions.assertEquals(1, controller.getInFlightCount(), "Expecting the completed execution untracked");
+        Assertions.assertEquals(1, controller.cancelInFlight("ControllerTestAsync"), "Expecting one execution cancelled");
+        Assertions.assertTrue(started.poll().isCancelled(), "Expecting the command's stage cancelled");
+        Assertions.assertEquals(0, controller.getInFlightCount(), "Expecting no execution in flight");
+
+        controller.executeCommand(new Notification("ControllerTestAsyncTimeout"));
+        CompletableFuture<String> slow = started.poll();
+        Assertions.assertEquals(1, controller.getInFlightCount("ControllerTestAsyncTimeout"), "Expecting the slow execution in flight");
+        Assertions.assertTrue(controller.awaitQuiescence(5, TimeUnit.SECONDS), "Expecting quiescence after the timeout");
+        Assertions.assertFalse(slow.isDone(), "Expecting the command's own stage left untouched by the timeout");
+        Assertions.assertEquals(0, controller.getInFlightCount(), "Expecting the timed out execution untracked");
+    }
+
+    /**
+     * Tests that failures of async commands are reported with COMMAND_FAILED, and cancellations are not.
+     */
+    @Test
+    public void testAsyncCommandFailures() {
+        IController controller = Controller.getInstance("ControllerTestKey12", key -> new Controller(key));
+        IView view = View.getInstance("ControllerTestKey12", key -> new View(key));
+        List<INotification> failures = new ArrayList<>();
+        view.registerObserver(Controller.COMMAND_FAILED, new Observer(failures::add, this));
+        Queue<CompletableFuture<String>> started = new ConcurrentLinkedQueue<>();
+        controller.registerCommand("ControllerTestAsyncFailure", () -> new AsyncCommand() {
+            public CompletionStage<?> executeAsync(INotification notification) {
+                CompletableFuture<String> future = new CompletableFuture<>();
+                started.add(future);
+                return future;
+            }
+        });
+
+        controller.executeCommand(new Notification("ControllerTestAsyncFailure"));
+        IllegalStateException error = new IllegalStateException("store down");
+        started.poll().completeExceptionally(error);
+        controller.executeCommand(new Notification("ControllerTestAsyncFailure"));
+        controller.cancelInFlight("ControllerTestAsyncFailure");
+
+        Assertions.assertEquals(1, failures.size(), "Expecting only the failure reported");
+        Assertions.assertSame(error, failures.get(0).getBody(), "Expecting the exception as the body");
+        Assertions.assertEquals("ControllerTestAsyncFailure", failures.get(0).getType(), "Expecting the failed notification as the type");
+    }
+
+    /**
+     * Tests several ordered commands for one notification and removing one of them.
+     */
+    @Test
+    public void testMultipleCommandsPerNotification() {
+        IController controller = Controller.getInstance("ControllerTestKey10", key -> new Controller(key));
+        IView view = View.getInstance("ControllerTestKey10", key -> new View(key));
+        StringBuilder order = new StringBuilder();
+        Supplier<ICommand> first = () -> new SimpleCommand() {
+            public void execute(INotification notification) { order.append('a'); }
+        };
+        Supplier<ICommand> second = () -> new SimpleCommand() {
+            public void execute(INotification notification) { order.append('b'); }
+        };
+        controller.addCommand("ControllerTestMulti", first);
+        controller.addCommand("ControllerTestMulti", second);
+        controller.addCommand("ControllerTestMulti", ControllerTestCommand.class);
+
+        ControllerTestVO vo = new ControllerTestVO(5);
+        view.notifyObservers(new Notification("ControllerTestMulti", vo));
+        Assertions.assertEquals("ab", order.toString(), "Expecting the commands executed in order");
+        Assertions.assertEquals(10, vo.result, "Expecting the class command executed once");
+
+        controller.removeCommand("ControllerTestMulti", first);
+        controller.removeCommand("ControllerTestMulti", ControllerTestCommand.class);
+        view.notifyObservers(new Notification("ControllerTestMulti", new ControllerTestVO(1)));
+        Assertions.assertEquals("abb", order.toString(), "Expecting only the remaining command executed");
+
+        controller.removeCommand("ControllerTestMulti", second);
+        Assertions.assertFalse(controller.hasCommand("ControllerTestMulti"), "Expecting no command left");
+        view.notifyObservers(new Notification("ControllerTestMulti", new ControllerTestVO(1)));
+        Assertions.assertEquals("abb", order.toString(), "Expecting the observer removed");
+
+        controller.addCommand("ControllerTestMulti", first);
+        controller.registerCommand("ControllerTestMulti", second);
+        view.notifyObservers(new Notification("ControllerTestMulti", new ControllerTestVO(1)));
+        Assertions.assertEquals("abbb", order.toString(), "Expecting registerCommand to replace the commands");
+    }
+
+    /**
+     * Tests that memoized commands reuse results by body until invalidated.
+     */
+    @Test
+    public void testMemoizedCommands() {
+        Controller controller = (Controller) Controller.getInstance("ControllerTestKey11", key -> new Controller(key));
+        IView view = View.getInstance("ControllerTestKey11", key -> new View(key));
+        AtomicInteger computed = new AtomicInteger();
+        List<Object> published = new ArrayList<>();
+        controller.registerCommand("ControllerTestMemo", () -> new MemoizedCommand() {
+            public Object compute(INotification notification) {
+                computed.incrementAndGet();
+                return 2 * (Integer) notification.getBody();
+            }
+
+            public void publish(INotification notification, Object result) {
+                published.add(result);
+            }
+        });
+        controller.setResultCache("ControllerTestMemo", 2, "ControllerTestMemoChanged");
+
+        view.notifyObservers(new Notification("ControllerTestMemo", 1));
+        view.notifyObservers(new Notification("ControllerTestMemo", 1));
+        view.notifyObservers(new Notification("ControllerTestMemo", 2));
+        Assertions.assertEquals(Arrays.asList(2, 2, 4), published, "Expecting every execution published");
+        Assertions.assertEquals(2, computed.get(), "Expecting the repeated body served from the cache");
+
+        view.notifyObservers(new Notification("ControllerTestMemo", 3));
+        view.notifyObservers(new Notification("ControllerTestMemo", 1));
+        Assertions.assertEquals(4, computed.get(), "Expecting the least recently used result evicted");
+
+        view.notifyObservers(new Notification("ControllerTestMemoChanged"));
+        view.notifyObservers(new Notification("ControllerTestMemo", 1));
+        Assertions.assertEquals(5, computed.get(), "Expecting the results invalidated by the change notification");
+
+        controller.invalidateResults("ControllerTestMemo");
+        view.notifyObservers(new Notification("ControllerTestMemo", 1));
+        Assertions.assertEquals(6, computed.get(), "Expecting the results invalidated explicitly");
+
+        ResultCacheStats stats = controller.getResultCacheStats("ControllerTestMemo");
+        Assertions.assertEquals(1, stats.getHits(), "Expecting one hit");
+        Assertions.assertEquals(6, stats.getMisses(), "Expecting six misses");
+        Assertions.assertEquals(2, stats.getEvictions(), "Expecting two evictions");
+        Assertions.assertEquals(2, stats.getInvalidations(), "Expecting two invalidations");
+    }
+
+    /**
+     * Tests that memoized commands compute every time without a configured cache.
+     */
+    @Test
+    public void testMemoizedCommandsWithoutCache() {
+        IController controller = Controller.getInstance("ControllerTestKey13", key -> new Controller(key));
+        IView view = View.getInstance("ControllerTestKey13", key -> new View(key));
+        AtomicInteger computed = new AtomicInteger();
+        controller.registerCommand("ControllerTestUncached", () -> new MemoizedCommand() {
+            public Object compute(INotification notification) {
+                return computed.incrementAndGet();
+            }
+
+            public void publish(INotification notification, Object result) {
+            }
+        });
+
+        view.notifyObservers(new Notification("ControllerTestUncached", 1));
+        view.notifyObservers(new Notification("ControllerTestUncached", 1));
+        Assertions.assertEquals(2, computed.get(), "Expecting no results kept without setResultCache");
+    }
+
+    /**
+     * Tests that the deprecated command map mirrors the first command of each notification.
+     */
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testCommandMapMirrorsRegistrations() {
+        Controller controller = (Controller) Controller.getInstance("ControllerTestKey14", key -> new Controller(key));
+        Supplier<ICommand> first = () -> new ControllerTestCommand();
+        controller.registerCommand("ControllerTestMirror", first);
+        controller.addCommand("ControllerTestMirror", () -> new ControllerTestCommand2());
+        Assertions.assertSame(first, controller.commandMap.get("ControllerTestMirror"), "Expecting the first command in the map");
+
+        controller.removeCommand("ControllerTestMirror");
+        Assertions.assertNull(controller.commandMap.get("ControllerTestMirror"), "Expecting the name removed from the map");
+    }
 }
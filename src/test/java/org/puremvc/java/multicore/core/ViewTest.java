@@ -8,13 +8,45 @@
 package org.puremvc.java.multicore.core;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.interfaces.BackpressurePolicy;
+import org.puremvc.java.multicore.interfaces.BlockingPolicy;
 import org.puremvc.java.multicore.interfaces.IMediator;
 import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.interfaces.IObserver;
 import org.puremvc.java.multicore.interfaces.IView;
 import org.puremvc.java.multicore.patterns.mediator.Mediator;
+import org.puremvc.java.multicore.patterns.observer.BatchObserver;
 import org.puremvc.java.multicore.patterns.observer.Notification;
+import org.puremvc.java.multicore.patterns.observer.NotificationRegistry;
 import org.puremvc.java.multicore.patterns.observer.Observer;
+import org.puremvc.java.multicore.patterns.observer.QueueStats;
+import org.puremvc.java.multicore.patterns.observer.RateLimit;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
 
 /**
  * Test the PureMVC View class.
@@ -388,4 +420,673 @@ public class ViewTest {
         // verify the count is 0
         Assertions.assertEquals(0, counter, "Expecting counter == 0");
     }
+
+    /**
+     * Tests that an Observer registered while a notification is
+     * being dispatched is not notified until the next notification,
+     * since dispatch iterates the snapshot published at send time.
+     */
+    @Test
+    public void testRegisterObserverDuringNotification() {
+        // Get the Multiton View instance
+        IView view = View.getInstance("ViewTestKey12", key -> new View(key));
+
+        counter = 0;
+        Observer late = new Observer(note -> counter++, "late");
+        view.registerObserver(NOTE1, new Observer(note -> view.registerObserver(NOTE1, late), this));
+
+        // the late observer must not see the notification that registered it
+        view.notifyObservers(new Notification(NOTE1));
+        Assertions.assertEquals(0, counter, "Expecting counter == 0");
+
+        view.removeObserver(NOTE1, this);
+        view.notifyObservers(new Notification(NOTE1));
+        Assertions.assertEquals(1, counter, "Expecting counter == 1");
+
+        // removing from an unknown list must not fail
+        view.removeObserver("ViewTestUnknown", this);
+    }
+
+    /**
+     * Tests single-segment and multi-segment wildcard subscriptions,
+     * and that removing a wildcard Observer invalidates the resolved
+     * observers of names that were already dispatched.
+     */
+    @Test
+    public void testWildcardObservers() {
+        // Get the Multiton View instance
+        IView view = View.getInstance("ViewTestKey13", key -> new View(key));
+
+        StringBuilder log = new StringBuilder();
+        view.registerObserver("order.update", new Observer(note -> log.append("exact;"), "exact"));
+        view.registerObserver("order.*", new Observer(note -> log.append("one;"), "one"));
+        view.registerObserver("order.**", new Observer(note -> log.append("any;"), "any"));
+
+        view.notifyObservers(new Notification("order.update"));
+        Assertions.assertEquals("exact;any;one;", log.toString(), "Expecting exact, then wildcard observers");
+
+        log.setLength(0);
+        view.notifyObservers(new Notification("order.update.price"));
+        Assertions.assertEquals("any;", log.toString(), "Expecting only the '**' observer");
+
+        log.setLength(0);
+        view.notifyObservers(new Notification("order"));
+        Assertions.assertEquals("", log.toString(), "Expecting no observer for the bare prefix");
+
+        view.removeObserver("order.**", "any");
+        log.setLength(0);
+        view.notifyObservers(new Notification("order.update"));
+        Assertions.assertEquals("exact;one;", log.toString(), "Expecting the '**' observer removed");
+    }
+
+    /**
+     * Tests that Observers registered for a notification type are
+     * only notified of that type, while untyped Observers see all types.
+     */
+    @Test
+    public void testTypedObservers() {
+        // Get the Multiton View instance
+        IView view = View.getInstance("ViewTestKey14", key -> new View(key));
+
+        StringBuilder log = new StringBuilder();
+        view.registerObserver(NOTE4, new Observer(note -> log.append("any;"), "any"));
+        view.registerObserver(NOTE4, "a", new Observer(note -> log.append("a;"), "a"));
+        view.registerObserver(NOTE4, "b", new Observer(note -> log.append("b;"), "b"));
+
+        view.notifyObservers(new Notification(NOTE4, null, "a"));
+        Assertions.assertEquals("any;a;", log.toString(), "Expecting the untyped and 'a' observers");
+
+        log.setLength(0);
+        view.notifyObservers(new Notification(NOTE4, null, "c"));
+        Assertions.assertEquals("any;", log.toString(), "Expecting only the untyped observer");
+
+        log.setLength(0);
+        view.notifyObservers(new Notification(NOTE4));
+        Assertions.assertEquals("any;", log.toString(), "Expecting only the untyped observer for a null type");
+    }
+
+    /**
+     * Tests the default typed registration of an IView that only
+     * implements the untyped methods.
+     */
+    @Test
+    public void testTypedObserversDefault() {
+        List<IObserver> observers = new ArrayList<>();
+        IView view = new IView() {
+            public void registerObserver(String notificationName, IObserver observer) {
+                observers.add(observer);
+            }
+
+            public void removeObserver(String notificationName, Object notifyContext) {
+                observers.removeIf(observer -> observer.compareNotifyContext(notifyContext));
+            }
+
+            public void notifyObservers(INotification notification) {
+                for(IObserver observer : new ArrayList<>(observers)) observer.notifyObserver(notification);
+            }
+
+            public void registerMediator(IMediator mediator) {
+            }
+
+            public IMediator retrieveMediator(String mediatorName) {
+                return null;
+            }
+
+            public IMediator removeMediator(String mediatorName) {
+                return null;
+            }
+
+            public boolean hasMediator(String mediatorName) {
+                return false;
+            }
+        };
+
+        StringBuilder log = new StringBuilder();
+        view.registerObserver(NOTE4, "a", new Observer(note -> log.append("a;"), "a"));
+        view.notifyObservers(new Notification(NOTE4, null, "a"));
+        view.notifyObservers(new Notification(NOTE4, null, "b"));
+        Assertions.assertEquals("a;", log.toString(), "Expecting only the 'a' notification");
+
+        view.removeObserver(NOTE4, "a");
+        Assertions.assertTrue(observers.isEmpty(), "Expecting the typed observer removed by its context");
+    }
+
+    /**
+     * Tests that a Mediator declaring (name, type) interests is only
+     * notified of matching types, and not at all after removal.
+     */
+    @Test
+    public void testMediatorTypedInterests() {
+        // Get the Multiton View instance
+        IView view = View.getInstance("ViewTestKey15", key -> new View(key));
+        view.registerMediator(new ViewTestMediator7(this));
+
+        counter = 0;
+        view.notifyObservers(new Notification(NOTE5, null, "other"));
+        view.notifyObservers(new Notification(NOTE5, null, ViewTestMediator7.TYPE));
+        Assertions.assertEquals(1, counter, "Expecting counter == 1");
+
+        view.removeMediator(ViewTestMediator7.NAME);
+        view.notifyObservers(new Notification(NOTE5, null, ViewTestMediator7.TYPE));
+        Assertions.assertEquals(1, counter, "Expecting counter == 1");
+    }
+
+    /**
+     * Tests that Observers are notified by descending priority and
+     * that a high priority Observer can stop propagation.
+     */
+    @Test
+    public void testPriorityAndStopPropagation() {
+        // Get the Multiton View instance
+        IView view = View.getInstance("ViewTestKey16", key -> new View(key));
+
+        StringBuilder log = new StringBuilder();
+        view.registerObserver(NOTE3, new Observer(note -> log.append("low;"), "low", -1));
+        view.registerObserver(NOTE3, new Observer(note -> log.append("default;"), "default"));
+        view.registerObserver(NOTE3, new Observer(note -> {
+            log.append("high;");
+            if("stop".equals(note.getBody())) note.stopPropagation();
+        }, "high", 10));
+
+        view.notifyObservers(new Notification(NOTE3));
+        Assertions.assertEquals("high;default;low;", log.toString(), "Expecting observers by descending priority");
+
+        log.setLength(0);
+        view.notifyObservers(new Notification(NOTE3, "stop"));
+        Assertions.assertEquals("high;", log.toString(), "Expecting propagation stopped after the high priority observer");
+    }
+
+    /**
+     * Tests asynchronous dispatch: inline Observers run on the
+     * calling thread, the others on the configured Executor, and the
+     * returned future completes once all of them have finished.
+     */
+    @Test
+    public void testNotifyObserversAsync() throws Exception {
+        // Get the Multiton View instance
+        IView view = View.getInstance("ViewTestKey17", key -> new View(key));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        view.setExecutor(executor);
+
+        Thread caller = Thread.currentThread();
+        AtomicReference<Thread> inlineThread = new AtomicReference<>();
+        AtomicReference<Thread> offThread = new AtomicReference<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Observer background = new Observer(note -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            offThread.set(Thread.currentThread());
+        }, "background");
+        background.setInline(false);
+        view.registerObserver(NOTE2, background);
+        view.registerObserver(NOTE2, new Observer(note -> inlineThread.set(Thread.currentThread()), "inline"));
+
+        CompletableFuture<Void> future = view.notifyObserversAsync(new Notification(NOTE2));
+
+        // the inline observer already ran on the caller while the other one is blocked
+        Assertions.assertSame(caller, inlineThread.get(), "Expecting the inline observer on the calling thread");
+        Assertions.assertFalse(future.isDone(), "Expecting the future pending while an observer runs");
+
+        release.countDown();
+        future.get(5, TimeUnit.SECONDS);
+        Assertions.assertNotSame(caller, offThread.get(), "Expecting the off-thread observer on the executor");
+
+        executor.shutdown();
+    }
+
+    /**
+     * Tests the blocking dispatch policies. The blocking Executor is
+     * injected directly so the test does not depend on the platform
+     * providing virtual threads.
+     */
+    @Test
+    public void testBlockingObserverPolicies() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            View view = (View) View.getInstance("ViewTestKey18", key -> new View(key));
+            view.blockingExecutor = executor;
+
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch finished = new CountDownLatch(2);
+            AtomicReference<Thread> blockingThread = new AtomicReference<>();
+            Observer blocking = new Observer(note -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                blockingThread.set(Thread.currentThread());
+                finished.countDown();
+            }, "blocking");
+            blocking.setBlocking(true);
+            view.registerObserver(NOTE1, blocking);
+
+            // fire-and-forget returns while the blocking observer is still waiting
+            view.setBlockingPolicy(NOTE1, BlockingPolicy.FIRE_AND_FORGET);
+            view.notifyObservers(new Notification(NOTE1));
+            Assertions.assertEquals(2, finished.getCount(), "Expecting the blocking observer still running");
+
+            release.countDown();
+
+            // join waits for the blocking observer to finish
+            view.setBlockingPolicy(NOTE1, BlockingPolicy.JOIN);
+            view.notifyObservers(new Notification(NOTE1));
+            Assertions.assertTrue(finished.await(5, TimeUnit.SECONDS), "Expecting both notifications handled");
+            Assertions.assertNotSame(Thread.currentThread(), blockingThread.get(), "Expecting the blocking observer off the calling thread");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that the event-loop mode confines dispatch to the core's thread,
+     * queueing sends from other threads and dispatching inline on the loop.
+     */
+    @Test
+    public void testEventLoopMode() throws Exception {
+        IView view = View.getInstance("ViewTestKey19", key -> new View(key));
+        view.setEventLoopMode(true);
+        Assertions.assertTrue(view.isEventLoopMode(), "Expecting the event loop running");
+        Assertions.assertFalse(view.inEventLoop(), "Expecting the test thread outside the event loop");
+
+        List<String> order = new ArrayList<>();
+        AtomicReference<Thread> loopThread = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        view.registerObserver(NOTE1, new Observer(note -> {
+            loopThread.set(Thread.currentThread());
+            order.add("note1 start");
+            // sent from the loop thread, so dispatched inline
+            view.notifyObservers(new Notification(NOTE2));
+            order.add("note1 end");
+            done.countDown();
+        }, "loop"));
+        view.registerObserver(NOTE2, new Observer(note -> order.add("note2"), "loop"));
+
+        view.notifyObservers(new Notification(NOTE1));
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS), "Expecting the notification dispatched");
+        Assertions.assertNotSame(Thread.currentThread(), loopThread.get(), "Expecting dispatch on the event loop thread");
+        Assertions.assertEquals(Arrays.asList("note1 start", "note2", "note1 end"), order, "Expecting inline dispatch on the loop");
+
+        View.removeView("ViewTestKey19");
+        Assertions.assertFalse(view.isEventLoopMode(), "Expecting the event loop stopped");
+    }
+
+    /**
+     * Tests that a collection of notifications is delivered as one batch per name
+     * to batch observers, and one notification at a time to the other observers.
+     */
+    @Test
+    public void testNotifyObserversBatch() {
+        IView view = View.getInstance("ViewTestKey20", key -> new View(key));
+
+        List<List<INotification>> batches = new ArrayList<>();
+        List<Object> single = new ArrayList<>();
+        view.registerObserver(NOTE1, new BatchObserver(note -> Assertions.fail("Expecting batch delivery"), batches::add, "batch"));
+        view.registerObserver(NOTE1, new Observer(note -> single.add(note.getBody()), "single"));
+        view.registerObserver(NOTE2, new Observer(note -> single.add(note.getBody()), "single"));
+
+        view.notifyObservers(Arrays.asList(new Notification(NOTE1, 1), new Notification(NOTE2, 2), new Notification(NOTE1, 3)));
+
+        Assertions.assertEquals(1, batches.size(), "Expecting one batch for NOTE1");
+        Assertions.assertEquals(2, batches.get(0).size(), "Expecting both NOTE1 notifications in the batch");
+        Assertions.assertEquals(3, batches.get(0).get(1).getBody(), "Expecting the batch in send order");
+        Assertions.assertEquals(Arrays.asList(1, 3, 2), single, "Expecting single delivery grouped by name");
+    }
+
+    /**
+     * Tests that pending conflated notifications with the same name and key
+     * are replaced by the latest one, and that replacements are counted.
+     */
+    @Test
+    public void testNotifyObserversConflated() {
+        IView view = View.getInstance("ViewTestKey21", key -> new View(key));
+        List<Runnable> tasks = new ArrayList<>();
+        view.setExecutor(tasks::add);
+
+        List<Object> received = new ArrayList<>();
+        view.registerObserver(NOTE1, new Observer(note -> received.add(note.getBody()), this));
+
+        view.notifyObserversConflated(new Notification(NOTE1, "A1"), "A");
+        view.notifyObserversConflated(new Notification(NOTE1, "B1"), "B");
+        view.notifyObserversConflated(new Notification(NOTE1, "A2"), "A");
+        view.notifyObserversConflated(new Notification(NOTE1, "A3"), "A");
+
+        Assertions.assertEquals(2, tasks.size(), "Expecting one pending dispatch per key");
+        tasks.forEach(Runnable::run);
+        Assertions.assertEquals(Arrays.asList("A3", "B1"), received, "Expecting only the latest value per key");
+        Assertions.assertEquals(2, view.getConflatedCount(NOTE1), "Expecting two conflated updates");
+
+        // once drained, the next update is dispatched again
+        view.notifyObserversConflated(new Notification(NOTE1, "A4"), "A");
+        Assertions.assertEquals(3, tasks.size(), "Expecting a new dispatch after draining");
+    }
+
+    /**
+     * Tests that a conflated notification rejected by the executor does not
+     * leave its key pending, so later updates are dispatched.
+     */
+    @Test
+    public void testNotifyObserversConflatedRejected() {
+        IView view = View.getInstance("ViewTestKey25", key -> new View(key));
+        view.setExecutor(task -> {
+            throw new RejectedExecutionException("Expecting rejection");
+        });
+
+        List<Object> received = new ArrayList<>();
+        view.registerObserver(NOTE1, new Observer(note -> received.add(note.getBody()), this));
+
+        Assertions.assertThrows(RejectedExecutionException.class, () -> view.notifyObserversConflated(new Notification(NOTE1, "A1"), "A"), "Expecting the dispatch rejected");
+
+        view.setExecutor(Runnable::run);
+        view.notifyObserversConflated(new Notification(NOTE1, "A2"), "A");
+        Assertions.assertEquals(Arrays.asList("A2"), received, "Expecting the next update dispatched");
+        Assertions.assertEquals(0, view.getConflatedCount(NOTE1), "Expecting no conflated updates");
+    }
+
+    /**
+     * Tests registering observers wrapped in throttle and debounce operators.
+     */
+    @Test
+    public void testRateLimitedObservers() throws InterruptedException {
+        IView view = View.getInstance("ViewTestKey22", key -> new View(key));
+
+        List<Object> throttled = new ArrayList<>();
+        view.registerObserver(NOTE1, new Observer(note -> throttled.add(note.getBody()), "throttled"), RateLimit.throttle(2, 1, TimeUnit.HOURS));
+
+        List<Object> debounced = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(1);
+        view.registerObserver(NOTE2, new Observer(note -> {
+            debounced.add(note.getBody());
+            delivered.countDown();
+        }, "debounced"), RateLimit.debounce(50, TimeUnit.MILLISECONDS));
+
+        for(int i = 0; i < 5; i++) {
+            view.notifyObservers(new Notification(NOTE1, i));
+            view.notifyObservers(new Notification(NOTE2, i));
+        }
+
+        Assertions.assertEquals(Arrays.asList(0, 1), throttled, "Expecting at most two notifications per interval");
+        Assertions.assertTrue(delivered.await(5, TimeUnit.SECONDS), "Expecting the debounced notification delivered");
+        Thread.sleep(100);
+        Assertions.assertEquals(Arrays.asList(4), debounced, "Expecting only the last notification after the quiet period");
+    }
+
+    /**
+     * Tests that notifications sent during a dispatch are queued and
+     * dispatched breadth-first once the current dispatch finishes.
+     */
+    @Test
+    public void testDeferredDispatch() {
+        IView view = View.getInstance("ViewTestKey23", key -> new View(key));
+        view.setDeferredDispatch(true);
+
+        List<String> order = new ArrayList<>();
+        view.registerObserver(NOTE1, new Observer(note -> {
+            order.add("note1 start");
+            view.notifyObservers(new Notification(NOTE2));
+            order.add("note1 end");
+        }, this));
+        view.registerObserver(NOTE2, new Observer(note -> order.add("note2"), this));
+
+        view.notifyObservers(new Notification(NOTE1));
+        Assertions.assertEquals(Arrays.asList("note1 start", "note1 end", "note2"), order, "Expecting NOTE2 dispatched after NOTE1");
+
+        // a long cascade runs in a loop instead of recursing
+        int[] remaining = {100000};
+        view.registerObserver(NOTE3, new Observer(note -> {
+            if(--remaining[0] > 0) view.notifyObservers(new Notification(NOTE3));
+        }, this));
+        view.notifyObservers(new Notification(NOTE3));
+        Assertions.assertEquals(0, remaining[0], "Expecting the whole cascade dispatched");
+    }
+
+    /**
+     * Tests bounded event-loop queues with per-name and per-core backpressure policies.
+     */
+    @Test
+    public void testQueueLimits() throws InterruptedException {
+        View view = (View) View.getInstance("ViewTestKey24", key -> new View(key));
+        view.setEventLoopMode(true);
+
+        // hold the event loop so that later notifications stay queued
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        view.registerObserver(NOTE1, new Observer(note -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, this));
+        view.notifyObservers(new Notification(NOTE1));
+        Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS), "Expecting the event loop busy");
+
+        List<Object> received = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+        view.registerObserver(NOTE2, new Observer(note -> {
+            received.add(note.getBody());
+            done.countDown();
+        }, this));
+        view.setQueueLimit(NOTE2, 2, BackpressurePolicy.DROP_OLDEST);
+        view.setQueueLimit(1, BackpressurePolicy.REJECT);
+
+        for(int i = 1; i <= 4; i++) {
+            view.notifyObservers(new Notification(NOTE2, i));
+        }
+        view.notifyObservers(new Notification(NOTE3));
+        Assertions.assertThrows(RejectedExecutionException.class, () -> view.notifyObservers(new Notification(NOTE3)), "Expecting the core queue full");
+
+        QueueStats stats = view.getQueueStats(NOTE2);
+        Assertions.assertEquals(2, stats.getDepth(), "Expecting two queued notifications");
+        Assertions.assertEquals(2, stats.getHighWaterMark(), "Expecting the high-water mark at capacity");
+        Assertions.assertEquals(2, stats.getDropped(), "Expecting the two oldest dropped");
+        Assertions.assertEquals(1, view.getQueueStats().getRejected(), "Expecting one rejected notification");
+
+        release.countDown();
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS), "Expecting the queued notifications dispatched");
+        Assertions.assertEquals(Arrays.asList(3, 4), received, "Expecting only the newest notifications dispatched");
+
+        View.removeView("ViewTestKey24");
+    }
+
+    /**
+     * Tests that batches and conflated notifications respect the queue limit,
+     * and that a rejected offer leaves the queue depth unchanged.
+     */
+    @Test
+    public void testQueueLimitsForBatchesAndConflation() throws InterruptedException {
+        View view = (View) View.getInstance("ViewTestKey28", key -> new View(key));
+        view.setEventLoopMode(true);
+
+        // hold the event loop so that later notifications stay queued
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        view.registerObserver(NOTE1, new Observer(note -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, this));
+        view.notifyObservers(new Notification(NOTE1));
+        Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS), "Expecting the event loop busy");
+
+        List<Object> received = new CopyOnWriteArrayList<>();
+        CountDownLatch batched = new CountDownLatch(2);
+        CountDownLatch done = new CountDownLatch(3);
+        view.registerObserver(NOTE2, new Observer(note -> {
+            received.add(note.getBody());
+            batched.countDown();
+            done.countDown();
+        }, this));
+        view.setQueueLimit(NOTE2, 1, BackpressurePolicy.DROP_NEWEST);
+
+        view.notifyObservers(Arrays.asList(new Notification(NOTE2, 1), new Notification(NOTE2, 2)));
+        view.notifyObservers(Arrays.asList(new Notification(NOTE2, 3)));
+        view.notifyObserversConflated(new Notification(NOTE2, 4), "key");
+        Assertions.assertEquals(1, view.getQueueStats(NOTE2).getEnqueued(), "Expecting the first batch queued as one entry");
+        Assertions.assertEquals(2, view.getQueueStats(NOTE2).getDropped(), "Expecting the second batch and the conflated notification dropped");
+
+        release.countDown();
+        Assertions.assertTrue(batched.await(5, TimeUnit.SECONDS), "Expecting the queued batch dispatched");
+        view.notifyObserversConflated(new Notification(NOTE2, 5), "key");
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS), "Expecting the queued notifications dispatched");
+        Assertions.assertEquals(Arrays.asList(1, 2, 5), received, "Expecting the dropped conflation series scheduled again");
+
+        View.removeView("ViewTestKey28");
+
+        QueueLimit limit = new QueueLimit(1, BackpressurePolicy.REJECT);
+        Assertions.assertThrows(RejectedExecutionException.class, () -> limit.offer(new Notification(NOTE1), task -> {
+            throw new RejectedExecutionException("stopped");
+        }, note -> {}), "Expecting the loop rejection rethrown");
+        Assertions.assertEquals(0, limit.stats().getDepth(), "Expecting the depth restored");
+        Assertions.assertEquals(0, limit.stats().getEnqueued(), "Expecting nothing counted as enqueued");
+    }
+
+    /**
+     * Tests that the deprecated observer map mirrors registrations by name.
+     */
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testObserverMapMirrorsRegistrations() {
+        View view = (View) View.getInstance("ViewTestKey26", key -> new View(key));
+        Observer observer = new Observer(note -> {}, this);
+        view.registerObserver(NOTE1, observer);
+        Assertions.assertEquals(Arrays.asList(observer), view.observerMap.get(NOTE1), "Expecting the observer in the map");
+
+        view.removeObserver(NOTE1, this);
+        Assertions.assertNull(view.observerMap.get(NOTE1), "Expecting the name removed from the map");
+    }
+
+    /**
+     * Tests that sending a notification does not register its name, and that
+     * pattern observers still receive unregistered names.
+     */
+    @Test
+    public void testSendDoesNotRegisterNames() {
+        IView view = View.getInstance("ViewTestKey27", key -> new View(key));
+        List<String> received = new ArrayList<>();
+        view.registerObserver("audit.**", new Observer(note -> received.add(note.getName()), "audit"));
+
+        view.notifyObservers(new Notification("ViewTestUnregistered"));
+        view.notifyObservers(new Notification("audit.ViewTestUnregistered"));
+        Assertions.assertEquals(Arrays.asList("audit.ViewTestUnregistered"), received, "Expecting the pattern observer notified");
+        Assertions.assertEquals(NotificationRegistry.UNKNOWN, NotificationRegistry.find("ViewTestUnregistered"), "Expecting the name not registered");
+        Assertions.assertEquals(NotificationRegistry.UNKNOWN, NotificationRegistry.find("audit.ViewTestUnregistered"), "Expecting the name not registered");
+    }
+
+    /**
+     * Tests that the multi-release JAR selects the virtual thread dispatch on JDK 21.
+     */
+    @Test
+    public void testMultiReleaseJarOnJava21() throws Exception {
+        String version = System.getProperty("java.specification.version");
+        Assumptions.assumeTrue(!version.startsWith("1.") && Integer.parseInt(version) >= 21, "Requires JDK 21");
+        File classes = new File(View.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Assumptions.assumeTrue(classes.isDirectory(), "Requires the compiled classes directory");
+
+        // package the compiled classes as a multi-release JAR
+        File jar = File.createTempFile("puremvc-multicore", ".jar");
+        jar.deleteOnExit();
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().putValue("Multi-Release", "true");
+        Path root = classes.toPath();
+        try(JarOutputStream out = new JarOutputStream(new FileOutputStream(jar), manifest); Stream<Path> files = Files.walk(root)) {
+            for(Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                String name = root.relativize(file).toString().replace(File.separatorChar, '/');
+                if(name.equals(JarFile.MANIFEST_NAME)) continue;
+                out.putNextEntry(new JarEntry(name));
+                Files.copy(file, out);
+                out.closeEntry();
+            }
+        }
+
+        try(URLClassLoader loader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, ClassLoader.getSystemClassLoader().getParent())) {
+            Class<?> viewClass = loader.loadClass(View.class.getName());
+            Object view = viewClass.getConstructor(String.class).newInstance("ViewTestKey29");
+            Assertions.assertEquals(true, viewClass.getMethod("setVirtualThreadDispatch", boolean.class).invoke(view, true), "Expecting the Java 21 classes selected from the JAR");
+        }
+    }
+
+    /**
+     * Tests that debounced deliveries go through the event loop, report
+     * observer errors and are dropped once the observer is removed.
+     */
+    @Test
+    public void testDebouncedDeliveryThroughDispatchPath() throws InterruptedException {
+        IView view = View.getInstance("ViewTestKey30", key -> new View(key));
+        view.setEventLoopMode(true);
+        Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+        AtomicReference<Throwable> reported = new AtomicReference<>();
+        CountDownLatch failed = new CountDownLatch(1);
+        Thread.setDefaultUncaughtExceptionHandler((thread, error) -> {
+            reported.set(error);
+            failed.countDown();
+        });
+        try {
+            AtomicReference<Boolean> inEventLoop = new AtomicReference<>();
+            CountDownLatch delivered = new CountDownLatch(1);
+            view.registerObserver(NOTE1, new Observer(note -> {
+                inEventLoop.set(view.inEventLoop());
+                delivered.countDown();
+            }, "delivered"), RateLimit.debounce(20, TimeUnit.MILLISECONDS));
+            view.registerObserver(NOTE2, new Observer(note -> {
+                throw new IllegalStateException("debounced failure");
+            }, "failing"), RateLimit.debounce(20, TimeUnit.MILLISECONDS));
+            List<Object> removed = new CopyOnWriteArrayList<>();
+            view.registerObserver(NOTE3, new Observer(note -> removed.add(note.getBody()), "removed"), RateLimit.debounce(20, TimeUnit.MILLISECONDS));
+
+            view.notifyObservers(new Notification(NOTE1));
+            view.notifyObservers(new Notification(NOTE2));
+            CountDownLatch sent = new CountDownLatch(1);
+            view.getDispatchExecutor().execute(() -> {
+                view.notifyObservers(new Notification(NOTE3, 1));
+                view.removeObserver(NOTE3, "removed");
+                sent.countDown();
+            });
+
+            Assertions.assertTrue(delivered.await(5, TimeUnit.SECONDS), "Expecting the debounced notification delivered");
+            Assertions.assertEquals(Boolean.TRUE, inEventLoop.get(), "Expecting the delivery on the event loop");
+            Assertions.assertTrue(failed.await(5, TimeUnit.SECONDS), "Expecting the observer error reported");
+            Assertions.assertEquals("debounced failure", reported.get().getMessage(), "Expecting the observer error");
+            Assertions.assertTrue(sent.await(5, TimeUnit.SECONDS), "Expecting the removal done");
+            Thread.sleep(100);
+            Assertions.assertTrue(removed.isEmpty(), "Expecting no delivery after the observer is removed");
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(previous);
+            View.removeView("ViewTestKey30");
+        }
+    }
+
+    /**
+     * Tests that a name without an id, covered only by patterns, is resolved
+     * once and reused until the registrations change.
+     */
+    @Test
+    public void testPatternOnlyNamesResolvedOnce() {
+        View view = (View) View.getInstance("ViewTestKey31", key -> new View(key));
+        List<Object> audited = new ArrayList<>();
+        view.registerObserver("audit31.**", new Observer(note -> audited.add(note.getBody()), "audit"));
+        String name = "audit31.order.created";
+
+        for(int i = 0; i < 3; i++) view.notifyObservers(new Notification(name, i));
+
+        Assertions.assertEquals(Arrays.asList(0, 1, 2), audited, "Expecting every notification delivered");
+        Assertions.assertEquals(NotificationRegistry.UNKNOWN, NotificationRegistry.find(name), "Expecting the name not registered");
+        Resolution resolution = view.resolve(NotificationRegistry.UNKNOWN, name);
+        Assertions.assertSame(resolution, view.resolve(NotificationRegistry.UNKNOWN, name), "Expecting the resolution cached by name");
+        Assertions.assertSame(resolution, view.patternCache.get(name), "Expecting the resolution from the sends reused");
+
+        view.registerObserver("audit31.*.created", new Observer(note -> audited.add("created"), "created"));
+        Assertions.assertNotSame(resolution, view.resolve(NotificationRegistry.UNKNOWN, name), "Expecting a new resolution after a registration");
+        view.notifyObservers(new Notification(name, 3));
+        Assertions.assertEquals(Arrays.asList(0, 1, 2, 3, "created"), audited, "Expecting the new pattern matched");
+    }
 }
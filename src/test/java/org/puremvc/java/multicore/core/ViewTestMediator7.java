@@ -0,0 +1,53 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.core;
+
+import org.puremvc.java.multicore.interfaces.IInterest;
+import org.puremvc.java.multicore.interfaces.IMediator;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.mediator.Mediator;
+import org.puremvc.java.multicore.patterns.observer.Interest;
+
+/**
+ * A Mediator class used by ViewTest that declares
+ * interest in a single type of notification.
+ *
+ * @see ViewTest ViewTest
+ */
+public class ViewTestMediator7 extends Mediator implements IMediator {
+
+    /**
+     * The Mediator name
+     */
+    public static final String NAME = "ViewTestMediator7";
+
+    /**
+     * The only notification type this Mediator handles
+     */
+    public static final String TYPE = "ViewTestType7";
+
+    /**
+     * Constructor
+     */
+    public ViewTestMediator7(Object view) {
+        super(NAME, view);
+    }
+
+    public IInterest[] listInterests() {
+        return new IInterest[] {new Interest(ViewTest.NOTE5, TYPE)};
+    }
+
+    public void handleNotification(INotification notification) {
+        getViewTest().counter++;
+    }
+
+    public ViewTest getViewTest() {
+        return (ViewTest) viewComponent;
+    }
+
+}
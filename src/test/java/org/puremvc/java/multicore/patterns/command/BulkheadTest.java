@@ -0,0 +1,97 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.core.Controller;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.observer.Notification;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the PureMVC Bulkhead class.
+ */
+public class BulkheadTest {
+
+    /**
+     * Tests that a saturated bulkhead rejects its own commands
+     * without affecting the commands of another bulkhead.
+     */
+    @Test
+    public void testBulkheadIsolation() throws InterruptedException {
+        Controller controller = (Controller) Controller.getInstance("BulkheadTestKey1", key -> new Controller(key));
+        controller.registerBulkhead(new Bulkhead("reports", 1, 1));
+        controller.registerBulkhead(new Bulkhead("orders", 2, 10));
+
+        CountDownLatch reportStarted = new CountDownLatch(1);
+        CountDownLatch releaseReports = new CountDownLatch(1);
+        controller.registerBulkheadCommand("BulkheadTestReport", () -> new SimpleCommand() {
+            public void execute(INotification notification) {
+                reportStarted.countDown();
+                try {
+                    releaseReports.await(5, TimeUnit.SECONDS);
+                } catch(InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, "reports");
+        CountDownLatch ordersDone = new CountDownLatch(3);
+        controller.registerBulkheadCommand("BulkheadTestOrder", () -> new SimpleCommand() {
+            public void execute(INotification notification) {
+                ordersDone.countDown();
+            }
+        }, "orders");
+
+        controller.executeCommand(new Notification("BulkheadTestReport"));
+        Assertions.assertTrue(reportStarted.await(5, TimeUnit.SECONDS), "Expecting the first report started");
+        controller.executeCommand(new Notification("BulkheadTestReport"));
+        Assertions.assertThrows(RejectedExecutionException.class, () -> controller.executeCommand(new Notification("BulkheadTestReport")), "Expecting the full bulkhead to reject");
+
+        for(int i = 0; i < 3; i++) controller.executeCommand(new Notification("BulkheadTestOrder"));
+        Assertions.assertTrue(ordersDone.await(5, TimeUnit.SECONDS), "Expecting the orders executed while reports are saturated");
+
+        BulkheadStats stats = controller.getBulkheadStats("reports");
+        Assertions.assertEquals(1, stats.getActive(), "Expecting one active report");
+        Assertions.assertEquals(1, stats.getQueueDepth(), "Expecting one queued report");
+        Assertions.assertEquals(1, stats.getRejected(), "Expecting one rejected report");
+        Assertions.assertEquals(2, stats.getSubmitted(), "Expecting two accepted reports");
+
+        releaseReports.countDown();
+        Assertions.assertTrue(controller.awaitQuiescence(5, TimeUnit.SECONDS), "Expecting every command finished");
+        Assertions.assertEquals(2, controller.getBulkheadStats("reports").getCompleted(), "Expecting two completed reports");
+        Assertions.assertEquals(3, controller.getBulkheadStats("orders").getCompleted(), "Expecting three completed orders");
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> controller.registerBulkheadCommand("BulkheadTestOther", () -> new SimpleCommand(), "missing"), "Expecting an unknown bulkhead rejected");
+        Controller.removeController("BulkheadTestKey1");
+    }
+
+    /**
+     * Tests that commands follow a replaced bulkhead and are rejected once it is removed.
+     */
+    @Test
+    public void testBulkheadLookedUpByName() throws InterruptedException {
+        Controller controller = (Controller) Controller.getInstance("BulkheadTestKey2", key -> new Controller(key));
+        controller.registerBulkhead(new Bulkhead("reports", 1, 0));
+        controller.registerBulkheadCommand("BulkheadTestReplaced", () -> new SimpleCommand(), "reports");
+        controller.executeCommand(new Notification("BulkheadTestReplaced"));
+        Assertions.assertTrue(controller.awaitQuiescence(5, TimeUnit.SECONDS), "Expecting the command finished");
+
+        controller.registerBulkhead(new Bulkhead("reports", 1, 0));
+        controller.executeCommand(new Notification("BulkheadTestReplaced"));
+        Assertions.assertTrue(controller.awaitQuiescence(5, TimeUnit.SECONDS), "Expecting the command finished");
+        Assertions.assertEquals(1, controller.getBulkheadStats("reports").getCompleted(), "Expecting the command run by the new bulkhead");
+
+        controller.removeBulkhead("reports");
+        Assertions.assertThrows(RejectedExecutionException.class, () -> controller.executeCommand(new Notification("BulkheadTestReplaced")), "Expecting the removed bulkhead to reject");
+        Controller.removeController("BulkheadTestKey2");
+    }
+}
@@ -0,0 +1,88 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.interfaces.ICommand;
+import org.puremvc.java.multicore.patterns.observer.Notification;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+/**
+ * Test the PureMVC CommandSuppliers class.
+ */
+public class CommandSuppliersTest {
+
+    /**
+     * Tests that a command class loaded by a child class loader, which the
+     * framework's class loader cannot see, is created with its own class.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testChildClassLoader() throws Exception {
+        ClassLoader child = new ChildFirstClassLoader(SimpleCommandTestCommand.class.getName(), CommandSuppliersTest.class.getClassLoader());
+        Class<? extends ICommand> commandClass = (Class<? extends ICommand>) child.loadClass(SimpleCommandTestCommand.class.getName());
+        Assertions.assertNotSame(SimpleCommandTestCommand.class, commandClass, "Expecting a class defined by the child class loader");
+
+        Supplier<ICommand> supplier = CommandSuppliers.of(commandClass);
+        ICommand command = supplier.get();
+        Assertions.assertSame(commandClass, command.getClass(), "Expecting an instance of the child class");
+
+        SimpleCommandTestVO vo = new SimpleCommandTestVO(5);
+        command.execute(new Notification("CommandSuppliersTest", vo));
+        Assertions.assertEquals(10, vo.result, "Expecting vo.result == 10");
+    }
+
+    /**
+     * Tests that the supplier of a visible class is generated once per class.
+     */
+    @Test
+    public void testSupplierCachedPerClass() {
+        Assertions.assertSame(CommandSuppliers.of(SimpleCommandTestCommand.class), CommandSuppliers.of(SimpleCommandTestCommand.class), "Expecting the same supplier");
+        Assertions.assertSame(SimpleCommandTestCommand.class, CommandSuppliers.of(SimpleCommandTestCommand.class).get().getClass(), "Expecting a SimpleCommandTestCommand");
+    }
+
+    // defines one class itself and delegates every other class to its parent
+    private static final class ChildFirstClassLoader extends ClassLoader {
+
+        private final String className;
+
+        ChildFirstClassLoader(String className, ClassLoader parent) {
+            super(parent);
+            this.className = className;
+        }
+
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if(!name.equals(className)) return super.loadClass(name, resolve);
+            synchronized(getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if(loaded == null) {
+                    byte[] bytes = read(name.replace('.', '/') + ".class");
+                    loaded = defineClass(name, bytes, 0, bytes.length);
+                }
+                return loaded;
+            }
+        }
+
+        private byte[] read(String resource) throws ClassNotFoundException {
+            try(InputStream in = getParent().getResourceAsStream(resource)) {
+                if(in == null) throw new ClassNotFoundException(resource);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                for(int read; (read = in.read(buffer)) != -1; ) out.write(buffer, 0, read);
+                return out.toByteArray();
+            } catch(IOException e) {
+                throw new ClassNotFoundException(resource, e);
+            }
+        }
+    }
+}
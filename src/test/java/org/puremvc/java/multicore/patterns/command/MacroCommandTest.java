@@ -9,9 +9,14 @@ package org.puremvc.java.multicore.patterns.command;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.interfaces.IAsyncCommand;
 import org.puremvc.java.multicore.interfaces.INotification;
 import org.puremvc.java.multicore.patterns.observer.Notification;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Test the PureMVC SimpleCommand class.
  *
@@ -67,4 +72,121 @@ public class MacroCommandTest {
         Assertions.assertTrue(vo.result1 == 10, "Expecting vo.result1 == 10 " + vo.result1);
         Assertions.assertTrue(vo.result2 == 25, "Expecing vo.result2 == 25");
     }
+
+    /**
+     * Tests that a <code>MacroCommand</code> declared by class can be
+     * executed more than once and that every instance is initialized.
+     */
+    @Test
+    public void testMacroCommandPlanReuse() {
+        MacroCommandTestClassCommand command = new MacroCommandTestClassCommand();
+        command.initializeNotifier("test");
+
+        for(int input = 1; input <= 3; input++) {
+            MacroCommandTestVO vo = new MacroCommandTestVO(input);
+            command.execute(new Notification("MacroCommandTest", vo, null));
+            Assertions.assertEquals(2 * input, vo.result1, "Expecting vo.result1 == 2 * input");
+            Assertions.assertEquals(input * input, vo.result2, "Expecting vo.result2 == input * input");
+        }
+
+        int initializations = MacroCommandTestClassCommand.initializations.get();
+        new MacroCommandTestClassCommand();
+        Assertions.assertEquals(initializations + 1, MacroCommandTestClassCommand.initializations.get(), "Expecting initializeMacroCommand called for every instance");
+    }
+
+    /**
+     * Tests that a <code>MacroCommand</code> whose <code>initializeMacroCommand</code>
+     * adds SubCommands conditionally builds its plan for every instance.
+     */
+    @Test
+    public void testMacroCommandConditionalInitialization() {
+        MacroCommandTestConditionalCommand.includeSecond = false;
+        MacroCommandTestConditionalCommand first = new MacroCommandTestConditionalCommand();
+        first.initializeNotifier("test");
+        MacroCommandTestVO vo = new MacroCommandTestVO(4);
+        first.execute(new Notification("MacroCommandTest", vo, null));
+        Assertions.assertTrue(first.ready, "Expecting first.ready");
+        Assertions.assertEquals(8, vo.result1, "Expecting vo.result1 == 8");
+        Assertions.assertEquals(0, vo.result2, "Expecting vo.result2 == 0");
+
+        MacroCommandTestConditionalCommand.includeSecond = true;
+        MacroCommandTestConditionalCommand second = new MacroCommandTestConditionalCommand();
+        second.initializeNotifier("test");
+        vo = new MacroCommandTestVO(4);
+        second.execute(new Notification("MacroCommandTest", vo, null));
+        Assertions.assertTrue(second.ready, "Expecting second.ready");
+        Assertions.assertEquals(8, vo.result1, "Expecting vo.result1 == 8");
+        Assertions.assertEquals(16, vo.result2, "Expecting vo.result2 == 16");
+    }
+
+    /**
+     * Tests that the plan is closed once the constructor returns.
+     */
+    @Test
+    public void testPlanClosedAfterConstructor() {
+        MacroCommand command = new MacroCommand() {
+            public void execute(INotification notification) {
+                addSubCommand(MacroCommandTestSub1Command.class);
+            }
+        };
+        Assertions.assertThrows(IllegalStateException.class, () -> command.execute(new Notification("MacroCommandTest")), "Expecting no SubCommands after the constructor");
+    }
+
+    /**
+     * Tests that an <code>IAsyncCommand</code> SubCommand finishes before
+     * the next one starts and that its failure propagates.
+     */
+    @Test
+    public void testAsyncSubCommands() {
+        AtomicBoolean asyncDone = new AtomicBoolean();
+        AtomicBoolean seenDone = new AtomicBoolean();
+        MacroCommand command = new MacroCommand() {
+            protected void initializeMacroCommand() {
+                addSubCommand(() -> new AsyncSubCommand(() -> {
+                    sleep();
+                    asyncDone.set(true);
+                }));
+                addSubCommand(() -> new SimpleCommand() {
+                    public void execute(INotification notification) {
+                        seenDone.set(asyncDone.get());
+                    }
+                });
+            }
+        };
+        command.initializeNotifier("test");
+        command.execute(new Notification("MacroCommandTest"));
+        Assertions.assertTrue(seenDone.get(), "Expecting the async SubCommand awaited");
+
+        MacroCommand failing = new MacroCommand() {
+            protected void initializeMacroCommand() {
+                addSubCommand(() -> new AsyncSubCommand(() -> {
+                    throw new IllegalStateException("async failed");
+                }));
+            }
+        };
+        failing.initializeNotifier("test");
+        IllegalStateException error = Assertions.assertThrows(IllegalStateException.class, () -> failing.execute(new Notification("MacroCommandTest")));
+        Assertions.assertEquals("async failed", error.getMessage(), "Expecting the async SubCommand error");
+    }
+
+    static class AsyncSubCommand extends SimpleCommand implements IAsyncCommand {
+
+        private final Runnable work;
+
+        AsyncSubCommand(Runnable work) {
+            this.work = work;
+        }
+
+        public CompletionStage<?> executeAsync(INotification notification) {
+            return CompletableFuture.runAsync(work);
+        }
+    }
+
+    static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
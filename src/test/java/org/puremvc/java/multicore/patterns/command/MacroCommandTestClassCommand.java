@@ -0,0 +1,31 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A MacroCommand subclass used by MacroCommandTest, declaring its SubCommands by class.
+ *
+ * @see MacroCommandTest MacroCommandTest
+ */
+public class MacroCommandTestClassCommand extends MacroCommand {
+
+    // how many times the plan was built
+    static final AtomicInteger initializations = new AtomicInteger();
+
+    /**
+     * Initialize the MacroCommandTestClassCommand by adding
+     * its 2 SubCommands by class.
+     */
+    protected void initializeMacroCommand() {
+        initializations.incrementAndGet();
+        addSubCommand(MacroCommandTestSub1Command.class);
+        addSubCommand(MacroCommandTestSub2Command.class);
+    }
+}
@@ -0,0 +1,32 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+/**
+ * A MacroCommand subclass used by MacroCommandTest, adding its second SubCommand conditionally.
+ *
+ * @see MacroCommandTest MacroCommandTest
+ */
+public class MacroCommandTestConditionalCommand extends MacroCommand {
+
+    // whether new instances add MacroCommandTestSub2Command
+    static volatile boolean includeSecond;
+
+    // set at the end of initializeMacroCommand
+    boolean ready;
+
+    /**
+     * Initialize the MacroCommandTestConditionalCommand by adding
+     * its first SubCommand and, if includeSecond is set, the second one.
+     */
+    protected void initializeMacroCommand() {
+        addSubCommand(MacroCommandTestSub1Command.class);
+        if(includeSecond) addSubCommand(MacroCommandTestSub2Command.class);
+        ready = true;
+    }
+}
@@ -0,0 +1,122 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.observer.Notification;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Test the PureMVC ParallelMacroCommand class.
+ *
+ * @see ParallelMacroCommandTestCommand ParallelMacroCommandTestCommand
+ */
+public class ParallelMacroCommandTest {
+
+    /**
+     * Tests that SubCommands run after their dependencies, more than once.
+     */
+    @Test
+    public void testParallelMacroCommandExecute() {
+        ParallelMacroCommandTestCommand command = new ParallelMacroCommandTestCommand();
+        command.initializeNotifier("test");
+
+        for(int input = 1; input <= 3; input++) {
+            MacroCommandTestVO vo = new MacroCommandTestVO(input);
+            command.execute(new Notification("ParallelMacroCommandTest", vo, null));
+            Assertions.assertEquals(2 * input, vo.result1, "Expecting vo.result1 == 2 * input");
+            Assertions.assertEquals(input * input, vo.result2, "Expecting vo.result2 == input * input");
+            Assertions.assertEquals(vo.result1 + vo.result2, vo.input, "Expecting the dependent SubCommand run last");
+        }
+    }
+
+    /**
+     * Tests that a failing SubCommand propagates its error and cancels its dependents.
+     */
+    @Test
+    public void testParallelMacroCommandFailure() {
+        AtomicBoolean dependentRan = new AtomicBoolean();
+        ParallelMacroCommand command = new ParallelMacroCommand() {
+            protected void initializeMacroCommand() {
+                addSubCommand("fail", () -> new SimpleCommand() {
+                    public void execute(INotification notification) {
+                        throw new IllegalStateException("load failed");
+                    }
+                });
+                addSubCommand("dependent", () -> new SimpleCommand() {
+                    public void execute(INotification notification) {
+                        dependentRan.set(true);
+                    }
+                }, "fail");
+            }
+        };
+        command.initializeNotifier("test");
+
+        IllegalStateException error = Assertions.assertThrows(IllegalStateException.class, () -> command.execute(new Notification("ParallelMacroCommandTest")));
+        Assertions.assertEquals("load failed", error.getMessage(), "Expecting the SubCommand error");
+        Assertions.assertFalse(dependentRan.get(), "Expecting the dependent SubCommand cancelled");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ParallelMacroCommand() {
+            protected void initializeMacroCommand() {
+                addSubCommand("orphan", MacroCommandTestSub1Command.class, "missing");
+            }
+        }, "Expecting an error for an unknown dependency");
+    }
+
+    /**
+     * Tests that the plan is closed once the constructor returns.
+     */
+    @Test
+    public void testPlanClosedAfterConstructor() {
+        ParallelMacroCommand command = new ParallelMacroCommand() {
+            public void execute(INotification notification) {
+                addSubCommand("late", MacroCommandTestSub1Command.class);
+            }
+        };
+        Assertions.assertThrows(IllegalStateException.class, () -> command.execute(new Notification("ParallelMacroCommandTest")), "Expecting no SubCommands after the constructor");
+    }
+
+    /**
+     * Tests that dependents of an <code>IAsyncCommand</code> SubCommand wait
+     * for its stage and that its failure propagates.
+     */
+    @Test
+    public void testAsyncSubCommands() {
+        AtomicBoolean asyncDone = new AtomicBoolean();
+        AtomicBoolean seenDone = new AtomicBoolean();
+        ParallelMacroCommand command = new ParallelMacroCommand() {
+            protected void initializeMacroCommand() {
+                addSubCommand("load", () -> new MacroCommandTest.AsyncSubCommand(() -> {
+                    MacroCommandTest.sleep();
+                    asyncDone.set(true);
+                }));
+                addSubCommand("render", () -> new SimpleCommand() {
+                    public void execute(INotification notification) {
+                        seenDone.set(asyncDone.get());
+                    }
+                }, "load");
+            }
+        };
+        command.initializeNotifier("test");
+        command.execute(new Notification("ParallelMacroCommandTest"));
+        Assertions.assertTrue(seenDone.get(), "Expecting the dependent SubCommand after the async stage");
+
+        ParallelMacroCommand failing = new ParallelMacroCommand() {
+            protected void initializeMacroCommand() {
+                addSubCommand("load", () -> new MacroCommandTest.AsyncSubCommand(() -> {
+                    throw new IllegalStateException("async failed");
+                }));
+            }
+        };
+        failing.initializeNotifier("test");
+        IllegalStateException error = Assertions.assertThrows(IllegalStateException.class, () -> failing.execute(new Notification("ParallelMacroCommandTest")));
+        Assertions.assertEquals("async failed", error.getMessage(), "Expecting the async SubCommand error");
+    }
+}
@@ -0,0 +1,35 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.puremvc.java.multicore.interfaces.INotification;
+
+/**
+ * A ParallelMacroCommand subclass used by ParallelMacroCommandTest.
+ *
+ * <P>The two SubCommands of MacroCommandTest run in parallel, and a third one,
+ * depending on both, adds their results.</P>
+ *
+ * @see ParallelMacroCommandTest ParallelMacroCommandTest
+ */
+public class ParallelMacroCommandTestCommand extends ParallelMacroCommand {
+
+    /**
+     * Initialize the ParallelMacroCommandTestCommand by adding its 3 SubCommands.
+     */
+    protected void initializeMacroCommand() {
+        addSubCommand("sub1", MacroCommandTestSub1Command.class);
+        addSubCommand("sub2", MacroCommandTestSub2Command.class);
+        addSubCommand("sum", () -> new SimpleCommand() {
+            public void execute(INotification notification) {
+                MacroCommandTestVO vo = (MacroCommandTestVO) notification.getBody();
+                vo.input = vo.result1 + vo.result2;
+            }
+        }, "sub1", "sub2");
+    }
+}
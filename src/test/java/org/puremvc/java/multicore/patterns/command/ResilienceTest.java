@@ -0,0 +1,181 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.core.View;
+import org.puremvc.java.multicore.interfaces.IFacade;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.facade.Facade;
+import org.puremvc.java.multicore.patterns.observer.Observer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the PureMVC Resilience class.
+ *
+ * @see ResilientCommandSupplier ResilientCommandSupplier
+ */
+public class ResilienceTest {
+
+    /**
+     * Tests that a failing command is retried until it succeeds.
+     */
+    @Test
+    public void testRetry() throws InterruptedException {
+        Facade facade = (Facade) Facade.getInstance("ResilienceTestKey1", key -> new Facade(key));
+        AtomicInteger attempts = new AtomicInteger();
+        facade.registerCommand("ResilienceTestRetry", () -> new SimpleCommand() {
+            public void execute(INotification notification) {
+                if(attempts.incrementAndGet() < 3) throw new IllegalStateException("store busy");
+            }
+        }, Resilience.retry(3, 1, 5, TimeUnit.MILLISECONDS));
+
+        facade.sendNotification("ResilienceTestRetry");
+        Assertions.assertTrue(facade.awaitQuiescence(5, TimeUnit.SECONDS), "Expecting the retries to finish");
+        Assertions.assertEquals(3, attempts.get(), "Expecting the command executed three times");
+    }
+
+    /**
+     * Tests that the circuit opens after repeated failures, rejects work while open
+     * and closes after a successful trial, announcing every transition.
+     */
+    @Test
+    public void testCircuitBreaker() throws InterruptedException {
+        Facade facade = (Facade) Facade.getInstance("ResilienceTestKey2", key -> new Facade(key));
+        List<String> transitions = new CopyOnWriteArrayList<>();
+        View.getInstance("ResilienceTestKey2", key -> new View(key)).registerObserver(Resilience.CIRCUIT_STATE_CHANGED,
+                new Observer(notification -> transitions.add(notification.getBody() + ":" + notification.getType()), this));
+
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicBoolean failing = new AtomicBoolean(true);
+        ResilientCommandSupplier supplier = Resilience.circuitBreaker(2, 100, TimeUnit.MILLISECONDS).apply(() -> new SimpleCommand() {
+            public void execute(INotification notification) {
+                attempts.incrementAndGet();
+                if(failing.get()) throw new IllegalStateException("store down");
+            }
+        });
+        facade.registerCommand("ResilienceTestCircuit", supplier);
+
+        facade.sendNotification("ResilienceTestCircuit");
+        facade.sendNotification("ResilienceTestCircuit");
+        Assertions.assertEquals(CircuitState.OPEN, supplier.getCircuitState("ResilienceTestKey2", "ResilienceTestCircuit"), "Expecting the circuit open");
+
+        facade.sendNotification("ResilienceTestCircuit");
+        Assertions.assertEquals(2, attempts.get(), "Expecting the command not executed while open");
+
+        Thread.sleep(150);
+        failing.set(false);
+        facade.sendNotification("ResilienceTestCircuit");
+        Assertions.assertTrue(facade.awaitQuiescence(5, TimeUnit.SECONDS), "Expecting no execution in flight");
+        Assertions.assertEquals(3, attempts.get(), "Expecting the trial executed");
+        Assertions.assertEquals(CircuitState.CLOSED, supplier.getCircuitState("ResilienceTestKey2", "ResilienceTestCircuit"), "Expecting the circuit closed");
+        Assertions.assertEquals(
+                Arrays.asList("ResilienceTestCircuit:OPEN", "ResilienceTestCircuit:HALF_OPEN", "ResilienceTestCircuit:CLOSED"),
+                transitions, "Expecting every transition announced");
+    }
+
+    /**
+     * Tests that a pooled command failing with an Error is retried and returned to its pool.
+     */
+    @Test
+    public void testErrorReleasesPooledCommand() throws InterruptedException {
+        Facade facade = (Facade) Facade.getInstance("ResilienceTestKey3", key -> new Facade(key));
+        AtomicInteger attempts = new AtomicInteger();
+        PooledCommandProvider pool = new PooledCommandProvider(() -> new SimpleCommand() {
+            public void execute(INotification notification) {
+                if(attempts.incrementAndGet() < 2) throw new AssertionError("broken invariant");
+            }
+        }, 4);
+        facade.registerCommand("ResilienceTestError", pool, Resilience.retry(2, 1, 5, TimeUnit.MILLISECONDS));
+
+        facade.sendNotification("ResilienceTestError");
+        Assertions.assertTrue(facade.awaitQuiescence(5, TimeUnit.SECONDS), "Expecting the retries to finish");
+        Assertions.assertEquals(2, attempts.get(), "Expecting the Error counted as a failed attempt");
+        Assertions.assertEquals(1, pool.getIdleCount(), "Expecting the command returned to the pool every time");
+    }
+
+    /**
+     * Tests that retries run on the core's event loop, like the first attempt.
+     */
+    @Test
+    public void testRetryOnEventLoop() throws InterruptedException {
+        Facade facade = (Facade) Facade.getInstance("ResilienceTestKey4", key -> new Facade(key));
+        facade.setEventLoopMode(true);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        facade.registerCommand("ResilienceTestEventLoop", () -> new SimpleCommand() {
+            public void execute(INotification notification) {
+                threads.add(Thread.currentThread().getName());
+                if(threads.size() < 3) throw new IllegalStateException("store busy");
+            }
+        }, Resilience.retry(3, 1, 5, TimeUnit.MILLISECONDS));
+
+        facade.sendNotification("ResilienceTestEventLoop");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(threads.size() < 3 && System.nanoTime() < deadline) Thread.sleep(1);
+        facade.setEventLoopMode(false);
+        Assertions.assertEquals(3, threads.size(), "Expecting the command executed three times");
+        Assertions.assertEquals(1, threads.stream().distinct().count(), "Expecting every attempt on the same thread");
+        Assertions.assertEquals("PureMVC-ResilienceTestKey4", threads.get(0), "Expecting the event loop thread");
+    }
+
+    /**
+     * Tests that two cores sharing a supplier keep separate circuits.
+     */
+    @Test
+    public void testCircuitPerCore() {
+        IFacade failingCore = Facade.getInstance("ResilienceTestKey5", key -> new Facade(key));
+        IFacade healthyCore = Facade.getInstance("ResilienceTestKey6", key -> new Facade(key));
+        ResilientCommandSupplier supplier = Resilience.circuitBreaker(1, 1, TimeUnit.HOURS).apply(() -> new SimpleCommand() {
+            public void execute(INotification notification) {
+                if("ResilienceTestKey5".equals(multitonKey)) throw new IllegalStateException("store down");
+            }
+        });
+        failingCore.registerCommand("ResilienceTestShared", supplier);
+        healthyCore.registerCommand("ResilienceTestShared", supplier);
+
+        failingCore.sendNotification("ResilienceTestShared");
+        healthyCore.sendNotification("ResilienceTestShared");
+        Assertions.assertEquals(CircuitState.OPEN, supplier.getCircuitState("ResilienceTestKey5", "ResilienceTestShared"), "Expecting the failing core's circuit open");
+        Assertions.assertEquals(CircuitState.CLOSED, supplier.getCircuitState("ResilienceTestKey6", "ResilienceTestShared"), "Expecting the other core's circuit closed");
+    }
+
+    /**
+     * Tests that a retry pending when its core is removed does not recreate the core.
+     */
+    @Test
+    public void testRetryAfterRemoveCore() throws InterruptedException {
+        IFacade facade = Facade.getInstance("ResilienceTestKey7", key -> new Facade(key));
+        AtomicInteger attempts = new AtomicInteger();
+        facade.registerCommand("ResilienceTestRemoved", () -> new SimpleCommand() {
+            public void execute(INotification notification) {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("store busy");
+            }
+        }, Resilience.retry(3, 20, 20, TimeUnit.MILLISECONDS));
+
+        facade.sendNotification("ResilienceTestRemoved");
+        Facade.removeCore("ResilienceTestKey7");
+        Thread.sleep(100);
+
+        AtomicBoolean created = new AtomicBoolean();
+        View.getInstance("ResilienceTestKey7", key -> {
+            created.set(true);
+            return new View(key);
+        });
+        Assertions.assertTrue(created.get(), "Expecting no View recreated by the retry");
+        Assertions.assertFalse(Facade.hasCore("ResilienceTestKey7"), "Expecting no Facade recreated by the retry");
+        View.removeView("ResilienceTestKey7");
+    }
+}
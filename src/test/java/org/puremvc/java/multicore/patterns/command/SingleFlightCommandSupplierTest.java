@@ -0,0 +1,132 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.command;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.core.Controller;
+import org.puremvc.java.multicore.interfaces.IController;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.patterns.observer.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the PureMVC SingleFlightCommandSupplier class.
+ */
+public class SingleFlightCommandSupplierTest {
+
+    /**
+     * Tests that concurrent duplicates of a synchronous command wait for the one execution.
+     */
+    @Test
+    public void testSynchronousCommand() throws InterruptedException {
+        IController controller = Controller.getInstance("SingleFlightTestKey1", key -> new Controller(key));
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger created = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlightCommandSupplier supplier = new SingleFlightCommandSupplier(() -> {
+            created.incrementAndGet();
+            return new SimpleCommand() {
+                public void execute(INotification notification) {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch(InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+        }, INotification::getBody);
+        controller.registerCommand("SingleFlightTestLoad", supplier);
+
+        List<Thread> senders = new ArrayList<>();
+        for(int i = 0; i < 4; i++) {
+            Thread sender = new Thread(() -> controller.executeCommand(new Notification("SingleFlightTestLoad", "customer-1")));
+            senders.add(sender);
+            sender.start();
+            if(i == 0) Assertions.assertTrue(started.await(5, TimeUnit.SECONDS), "Expecting the first execution started");
+        }
+        while(supplier.getCollapsedCount() < 3) Thread.sleep(1);
+        Assertions.assertTrue(senders.get(1).isAlive(), "Expecting a duplicate sender to wait");
+
+        release.countDown();
+        for(Thread sender : senders) sender.join(5000);
+        Assertions.assertEquals(1, executions.get(), "Expecting a single execution");
+        Assertions.assertEquals(1, created.get(), "Expecting a command created only for the execution");
+        Assertions.assertEquals(0, supplier.getInFlightCount(), "Expecting no execution in flight");
+
+        controller.executeCommand(new Notification("SingleFlightTestLoad", "customer-1"));
+        controller.executeCommand(new Notification("SingleFlightTestLoad", "customer-2"));
+        Assertions.assertEquals(3, executions.get(), "Expecting later and different keys executed");
+    }
+
+    /**
+     * Tests that concurrent duplicates of an async command share its stage.
+     */
+    @Test
+    public void testAsyncCommand() throws InterruptedException {
+        IController controller = Controller.getInstance("SingleFlightTestKey2", key -> new Controller(key));
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        SingleFlightCommandSupplier supplier = new SingleFlightCommandSupplier(() -> new AsyncCommand() {
+            public CompletionStage<?> executeAsync(INotification notification) {
+                executions.incrementAndGet();
+                return pending;
+            }
+        }, INotification::getBody);
+        controller.registerCommand("SingleFlightTestAsync", supplier);
+
+        for(int i = 0; i < 3; i++) {
+            controller.executeCommand(new Notification("SingleFlightTestAsync", "customer-1"));
+        }
+        Assertions.assertEquals(1, executions.get(), "Expecting a single execution");
+        Assertions.assertEquals(2, supplier.getCollapsedCount(), "Expecting two collapsed executions");
+        Assertions.assertEquals(3, controller.getInFlightCount("SingleFlightTestAsync"), "Expecting every sender tracked");
+
+        pending.complete("loaded");
+        Assertions.assertTrue(controller.awaitQuiescence(5, TimeUnit.SECONDS), "Expecting quiescence after completion");
+        Assertions.assertEquals(0, supplier.getInFlightCount(), "Expecting no execution in flight");
+    }
+
+    /**
+     * Tests that the same key in two cores does not share an execution.
+     */
+    @Test
+    public void testKeysPerCore() {
+        IController first = Controller.getInstance("SingleFlightTestKey3", key -> new Controller(key));
+        IController second = Controller.getInstance("SingleFlightTestKey4", key -> new Controller(key));
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        SingleFlightCommandSupplier supplier = new SingleFlightCommandSupplier(() -> new AsyncCommand() {
+            public CompletionStage<?> executeAsync(INotification notification) {
+                executions.incrementAndGet();
+                return pending;
+            }
+        }, INotification::getBody);
+        first.registerCommand("SingleFlightTestCore", supplier);
+        second.registerCommand("SingleFlightTestCore", supplier);
+
+        first.executeCommand(new Notification("SingleFlightTestCore", "customer-1"));
+        second.executeCommand(new Notification("SingleFlightTestCore", "customer-1"));
+        Assertions.assertEquals(2, executions.get(), "Expecting one execution per core");
+        Assertions.assertEquals(0, supplier.getCollapsedCount(), "Expecting no collapsed executions");
+        Assertions.assertEquals(2, supplier.getInFlightCount(), "Expecting one execution in flight per core");
+
+        pending.complete("loaded");
+        Assertions.assertEquals(0, supplier.getInFlightCount(), "Expecting no execution in flight");
+    }
+}
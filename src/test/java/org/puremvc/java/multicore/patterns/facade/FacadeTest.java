@@ -9,12 +9,22 @@ package org.puremvc.java.multicore.patterns.facade;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.core.Controller;
+import org.puremvc.java.multicore.core.View;
+import org.puremvc.java.multicore.interfaces.IController;
 import org.puremvc.java.multicore.interfaces.IFacade;
 import org.puremvc.java.multicore.interfaces.IMediator;
+import org.puremvc.java.multicore.interfaces.INotification;
+import org.puremvc.java.multicore.interfaces.IObserver;
 import org.puremvc.java.multicore.interfaces.IProxy;
+import org.puremvc.java.multicore.interfaces.IView;
 import org.puremvc.java.multicore.patterns.mediator.Mediator;
+import org.puremvc.java.multicore.patterns.observer.NotificationRegistry;
 import org.puremvc.java.multicore.patterns.proxy.Proxy;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Test the PureMVC Facade class.
  *
@@ -246,4 +256,87 @@ public class FacadeTest {
         Assertions.assertFalse(Facade.hasCore("FacadeTestKey11"), "Expecting Facade.hasCore('FacadeTestKey11') == false");
     }
 
+    /**
+     * Tests Command registration and execution via the Facade
+     * using dense notification ids.
+     */
+    @Test
+    public void testRegisterCommandAndSendNotificationById() {
+        IFacade facade = Facade.getInstance("FacadeTestKey12", key -> new Facade(key));
+        int id = NotificationRegistry.idOf("FacadeIdTestNote");
+        facade.registerCommand(id, () -> new FacadeTestCommand());
+
+        FacadeTestVO vo = new FacadeTestVO(21);
+        facade.sendNotification(id, vo);
+
+        // test assertions
+        Assertions.assertEquals(42, vo.result, "Expecting vo.result == 42");
+    }
+
+    /**
+     * Tests that a command-only notification is executed directly
+     * and that a mediator interested in it restores the View dispatch.
+     */
+    @Test
+    public void testCommandOnlyFastPath() {
+        IFacade facade = Facade.getInstance("FacadeTestKey13", key -> new Facade(key));
+        IView view = View.getInstance("FacadeTestKey13", key -> new View(key));
+        IController controller = Controller.getInstance("FacadeTestKey13", key -> new Controller(key));
+        facade.registerCommand("FacadeFastPathNote", () -> new FacadeTestCommand());
+        int id = NotificationRegistry.idOf("FacadeFastPathNote");
+
+        IObserver direct = view.getDirectObserver(id);
+        Assertions.assertNotNull(direct, "Expecting a direct observer for a command-only notification");
+        Assertions.assertTrue(direct.compareNotifyContext(controller), "Expecting the Controller's observer");
+
+        FacadeTestVO vo = new FacadeTestVO(4);
+        facade.sendNotification("FacadeFastPathNote", vo);
+        Assertions.assertEquals(8, vo.result, "Expecting vo.result == 8");
+
+        List<Object> received = new ArrayList<>();
+        facade.registerMediator(new Mediator("FacadeFastPathMediator") {
+            public String[] listNotificationInterests() {
+                return new String[]{"FacadeFastPathNote"};
+            }
+
+            public void handleNotification(INotification notification) {
+                received.add(notification.getBody());
+            }
+        });
+        Assertions.assertNull(view.getDirectObserver(id), "Expecting no direct observer once a mediator is interested");
+
+        vo = new FacadeTestVO(5);
+        facade.sendNotification("FacadeFastPathNote", vo);
+        Assertions.assertEquals(10, vo.result, "Expecting vo.result == 10");
+        Assertions.assertEquals(1, received.size(), "Expecting the mediator notified");
+
+        facade.removeMediator("FacadeFastPathMediator");
+        view.setDeferredDispatch(true);
+        Assertions.assertNull(view.getDirectObserver(id), "Expecting no direct observer with deferred dispatch");
+        view.setDeferredDispatch(false);
+        Assertions.assertNotNull(view.getDirectObserver(id), "Expecting the direct observer back");
+    }
+
+    /**
+     * Tests that a View subclass overriding notifyObservers still sees
+     * command-only notifications.
+     */
+    @Test
+    public void testCommandOnlyWithOverridingView() {
+        List<String> traced = new ArrayList<>();
+        IView view = View.getInstance("FacadeTestKey14", key -> new View(key) {
+            public void notifyObservers(INotification notification) {
+                traced.add(notification.getName());
+                super.notifyObservers(notification);
+            }
+        });
+        IFacade facade = Facade.getInstance("FacadeTestKey14", key -> new Facade(key));
+        facade.registerCommand("FacadeTracedNote", () -> new FacadeTestCommand());
+
+        Assertions.assertNull(view.getDirectObserver(NotificationRegistry.idOf("FacadeTracedNote")), "Expecting no direct observer for an overriding View");
+        FacadeTestVO vo = new FacadeTestVO(6);
+        facade.sendNotification("FacadeTracedNote", vo);
+        Assertions.assertEquals(12, vo.result, "Expecting vo.result == 12");
+        Assertions.assertEquals(1, traced.size(), "Expecting the overriding notifyObservers called");
+    }
 }
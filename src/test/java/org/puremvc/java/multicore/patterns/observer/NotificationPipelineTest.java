@@ -0,0 +1,107 @@
+//
+//  PureMVC Java Multicore
+//
+//  Copyright(c) 2019 Saad Shams <saad.shams@puremvc.org>
+//  Your reuse is governed by the Creative Commons Attribution 3.0 License
+//
+
+package org.puremvc.java.multicore.patterns.observer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.puremvc.java.multicore.interfaces.INotification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the PureMVC NotificationPipeline class.
+ *
+ * @see NotificationPipeline NotificationPipeline
+ */
+public class NotificationPipelineTest {
+
+    /**
+     * Tests that published notifications are dispatched in sequence order,
+     * handing over the preallocated slots themselves by default.
+     */
+    @Test
+    public void testPublishAndDispatch() throws InterruptedException {
+        for(WaitStrategy waitStrategy : WaitStrategy.values()) {
+            List<Object> bodies = new ArrayList<>();
+            List<Object> notifications = new ArrayList<>();
+            NotificationPipeline pipeline = new NotificationPipeline(note -> {
+                Assertions.assertEquals("PipelineTestNote", note.getName(), "Expecting the published name");
+                bodies.add(note.getBody());
+                if(!notifications.contains(note)) notifications.add(note);
+            }, 4, waitStrategy);
+
+            for(int i = 0; i < 100; i++) {
+                if(i % 2 == 0) {
+                    pipeline.publish("PipelineTestNote", i, null);
+                } else {
+                    long sequence = pipeline.next();
+                    pipeline.get(sequence, NotificationRegistry.idOf("PipelineTestNote")).setBody(i);
+                    pipeline.publish(sequence);
+                }
+            }
+            pipeline.shutdown();
+            Assertions.assertTrue(pipeline.awaitTermination(5, TimeUnit.SECONDS), "Expecting the consumer stopped");
+
+            Assertions.assertEquals(99, pipeline.getConsumedSequence(), "Expecting every sequence consumed with " + waitStrategy);
+            for(int i = 0; i < 100; i++) {
+                Assertions.assertEquals(i, bodies.get(i), "Expecting notifications in sequence order with " + waitStrategy);
+            }
+            Assertions.assertTrue(notifications.size() <= 4, "Expecting only the preallocated slots dispatched");
+        }
+    }
+
+    /**
+     * Tests that the capacity must be a power of two.
+     */
+    @Test
+    public void testCapacityPowerOfTwo() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new NotificationPipeline(note -> {}, 3, WaitStrategy.PARK));
+    }
+
+    /**
+     * Tests that a pipeline built for a deferred dispatcher hands over copies of its slots.
+     */
+    @Test
+    public void testDispatchCopies() throws InterruptedException {
+        List<INotification> notifications = new CopyOnWriteArrayList<>();
+        NotificationPipeline pipeline = new NotificationPipeline(notifications::add, 4, WaitStrategy.PARK, false);
+        for(int i = 0; i < 8; i++) {
+            pipeline.publish("PipelineTestCopy", i, "type");
+        }
+        pipeline.shutdown();
+        Assertions.assertTrue(pipeline.awaitTermination(5, TimeUnit.SECONDS), "Expecting the consumer stopped");
+
+        Assertions.assertEquals(8, new HashSet<>(notifications).size(), "Expecting a distinct notification per sequence");
+        for(int i = 0; i < 8; i++) {
+            Assertions.assertEquals(i, notifications.get(i).getBody(), "Expecting the copies to keep their bodies");
+            Assertions.assertEquals("type", notifications.get(i).getType(), "Expecting the copies to keep their types");
+        }
+    }
+
+    /**
+     * Tests that shutdown discards claimed but unpublished sequences.
+     */
+    @Test
+    public void testShutdownDiscardsUnpublished() throws InterruptedException {
+        List<Object> bodies = new CopyOnWriteArrayList<>();
+        NotificationPipeline pipeline = new NotificationPipeline(note -> bodies.add(note.getBody()), 4, WaitStrategy.PARK);
+        pipeline.publish("PipelineTestShutdown", 1, null);
+        long unpublished = pipeline.next();
+        pipeline.publish("PipelineTestShutdown", 2, null);
+
+        pipeline.shutdown();
+        Assertions.assertTrue(pipeline.awaitTermination(5, TimeUnit.SECONDS), "Expecting the consumer stopped");
+        Assertions.assertEquals(Arrays.asList(1, 2), bodies, "Expecting the published sequences dispatched");
+        Assertions.assertThrows(IllegalStateException.class, () -> pipeline.publish(unpublished), "Expecting the discarded sequence rejected");
+    }
+}
@@ -69,4 +69,23 @@ public class NotificationTest {
         // test assertions
         Assertions.assertTrue(note.toString().equals(ts), "Expecting note.toString() == '" + ts + "'");
     }
+
+    /**
+     * Tests that notification names resolve to stable dense ids
+     * and that a Notification built from an id carries its name.
+     */
+    @Test
+    public void testNotificationIds() {
+        int id = NotificationRegistry.idOf("NotificationIdTestNote");
+
+        // test assertions
+        Assertions.assertEquals(id, NotificationRegistry.idOf("NotificationIdTestNote"), "Expecting the same id for the same name");
+        Assertions.assertEquals(id, NotificationRegistry.find("NotificationIdTestNote"), "Expecting find to return the registered id");
+        Assertions.assertEquals(NotificationRegistry.UNKNOWN, NotificationRegistry.find("NotificationIdTestMissing"), "Expecting UNKNOWN for an unregistered name");
+
+        INotification note = new Notification(id, 5, "TestNoteType");
+        Assertions.assertEquals("NotificationIdTestNote", note.getName(), "Expecting note.getName() == 'NotificationIdTestNote'");
+        Assertions.assertEquals(id, note.getId(), "Expecting note.getId() == id");
+        Assertions.assertEquals(id, new Notification("NotificationIdTestNote").getId(), "Expecting a named note to resolve the same id");
+    }
 }